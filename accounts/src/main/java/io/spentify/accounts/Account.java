@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Persistable;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -19,6 +20,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
  * <p>The account entity is used to model user information and includes validation checks for various properties.</p>
+ * <p>The identifier is assigned on construction, so the entity reports itself as {@link Persistable#isNew() new}
+ * until it is persisted or loaded, letting {@code save} issue a plain INSERT instead of a merge.</p>
  */
 @Entity
 @Table(name = "accounts")
@@ -26,7 +29,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @EqualsAndHashCode
 @NoArgsConstructor(access = PRIVATE)
 @ToString
-public final class Account {
+public final class Account implements Persistable<Account.AccountIdentifier> {
 
     static final String patternRFC5322 = "^[\\w!#$%&'*+/=?`{|}~^-]+(?:\\.[\\w!#$%&'*+/=?`{|}~^-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,6}$";
     static final int MAX_LENGTH = 100;
@@ -34,13 +37,16 @@ public final class Account {
     @ToString.Exclude
     private final transient List<DomainEvent> domainEvents = new ArrayList<>();
 
+    @ToString.Exclude
+    private transient boolean isNew = true;
+
     private @EmbeddedId AccountIdentifier id;
     private @Embedded EmailAddress emailAddress;
     private String firstName;
     private String lastName;
 
     public Account(String firstName, String lastName, EmailAddress emailAddress) {
-        this.id = new AccountIdentifier(UUID.randomUUID());
+        this.id = new AccountIdentifier(Identifiers.next());
         this.emailAddress = requireNonNull(emailAddress, "emailAddress cannot be null");
 
         requireNonBlank(firstName, "firstName cannot be blank");
@@ -54,6 +60,17 @@ public final class Account {
         domainEvents.add(new AccountCreated(this));
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     /**
      * Clears any domain events associated with this account.
      */
@@ -1,5 +1,6 @@
 package io.spentify.accounts;
 
+import io.micrometer.core.annotation.Timed;
 import io.spentify.accounts.Account.EmailAddress;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,8 +14,10 @@ class AccountServiceImpl implements AccountService {
 
     private final Accounts accounts;
     private final EventPublisher eventPublisher;
+    private final FailureCounter failures;
 
     @Override
+    @Timed(value = "accounts.create", description = "Time to create an account")
     public Account create(CreateAccountCommand command) {
         requireUniqueEmailAddress(command.emailAddress);
 
@@ -29,7 +32,8 @@ class AccountServiceImpl implements AccountService {
 
     private void requireUniqueEmailAddress(String emailAddress) {
         if (accounts.existsByEmailAddress(new EmailAddress(emailAddress))) {
-            throw new EmailAlreadyExists("emailAddress '%s' already exits".formatted(emailAddress));
+            throw failures.count("account.create",
+                    new EmailAlreadyExists("emailAddress '%s' already exits".formatted(emailAddress)));
         }
     }
 }
@@ -0,0 +1,36 @@
+package io.spentify.accounts;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the failures of the use cases as {@code accounts.failures}, tagged by the operation and the type of the
+ * exception thrown, such as {@link EmailAlreadyExists}.
+ */
+@Component
+@RequiredArgsConstructor
+class FailureCounter {
+
+    static final String NAME = "accounts.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Counts the exception the operation fails with.
+     *
+     * @param operation The operation failed, e.g. {@code account.create}.
+     * @param exception The exception, to be thrown.
+     * @return The exception.
+     */
+    <E extends RuntimeException> E count(String operation, E exception) {
+        Counter.builder(NAME)
+                .description("Use case failures")
+                .tag("operation", operation)
+                .tag("type", exception.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+        return exception;
+    }
+}
@@ -0,0 +1,31 @@
+package io.spentify.accounts;
+
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Assigns the identifiers of new aggregates and outbox events, time-ordered version 7 UUIDs unless another
+ * {@link IdGenerator} is used.
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class Identifiers {
+
+    private static volatile IdGenerator generator = IdGenerator.timeOrdered();
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    /**
+     * Replaces the generator of the identifiers assigned from now on.
+     *
+     * @param generator The identifier generator.
+     */
+    public static void use(IdGenerator generator) {
+        Identifiers.generator = requireNonNull(generator, "generator cannot be null");
+    }
+}
@@ -6,14 +6,14 @@ import jakarta.validation.Validator;
 
 public abstract class SelfValidating<T> {
 
-    private final Validator validator;
-
-    public SelfValidating() {
-        validator = Validation.buildDefaultValidatorFactory().getValidator();
-    }
+    /**
+     * Built once per process and shared by every command. The validator is thread-safe and caches the constraint
+     * metadata of each validated class, so only the first command of a type pays for introspection.
+     */
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
 
     protected void validateSelf() {
-        var violations = validator.validate((T) this);
+        var violations = VALIDATOR.validate((T) this);
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
         }
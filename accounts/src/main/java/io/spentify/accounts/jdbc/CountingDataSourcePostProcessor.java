@@ -0,0 +1,130 @@
+package io.spentify.accounts.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Proxies the data sources, so the statements executed on their connections are counted in the current
+ * {@link StatementCounts}. {@code unwrap} reaches the pooled connection, the statements issued on it, such as a
+ * {@code COPY}, are not counted.
+ */
+@Component
+class CountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        // keep the pool closeable, so it is still closed on shutdown
+        return dataSource instanceof Closeable
+                ? proxy(DataSource.class, new DataSourceHandler(dataSource), Closeable.class)
+                : proxy(DataSource.class, new DataSourceHandler(dataSource));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler, Class<?>... others) {
+        var interfaces = new Class<?>[others.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(others, 0, interfaces, 1, others.length);
+        return type.cast(Proxy.newProxyInstance(CountingDataSourcePostProcessor.class.getClassLoader(), interfaces, handler));
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> method.invoke(target, args);
+            };
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = CountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            return result instanceof Connection connection && method.getName().equals("getConnection")
+                    ? proxy(Connection.class, new ConnectionHandler(connection))
+                    : result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var result = CountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            return switch (result) {
+                case CallableStatement statement -> proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0]));
+                case PreparedStatement statement -> proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0]));
+                case Statement statement when method.getName().equals("createStatement") ->
+                        proxy(Statement.class, new StatementHandler(statement, null));
+                case null, default -> result;
+            };
+        }
+    }
+
+    /**
+     * Counts the executions of a statement, the SQL of a prepared statement is known up front, the one of a plain
+     * statement is passed on execution.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private String sql;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            var name = method.getName();
+            if (sql == null || !(target instanceof PreparedStatement)) {
+                if ((name.startsWith("execute") || name.equals("addBatch")) && args != null && args.length > 0 && args[0] instanceof String text) {
+                    sql = text;
+                }
+            }
+
+            var result = CountingDataSourcePostProcessor.invoke(proxy, target, method, args);
+            switch (name) {
+                case "executeBatch" -> StatementCounts.batch(sql, (int[]) result);
+                case "executeLargeBatch" -> StatementCounts.batch(sql, toInts((long[]) result));
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    StatementCounts.statement(sql);
+                    StatementCounts.rows(((Number) result).longValue());
+                }
+                case "execute", "executeQuery" -> StatementCounts.statement(sql);
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        private static int[] toInts(long[] counts) {
+            var ints = new int[counts.length];
+            for (var i = 0; i < counts.length; i++) {
+                ints[i] = (int) Math.min(counts[i], Integer.MAX_VALUE);
+            }
+            return ints;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.spentify.accounts.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements of every HTTP request, see {@link StatementMetrics}. The statements of a response body
+ * streamed by another thread, such as an export, are not counted.
+ */
+@Component
+@RequiredArgsConstructor
+class StatementCountingFilter extends OncePerRequestFilter {
+
+    private final StatementMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var counts = StatementCounts.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            counts.close();
+            var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            metrics.record("http", request.getMethod() + " " + (uri == null ? "UNKNOWN" : uri), counts);
+        }
+    }
+}
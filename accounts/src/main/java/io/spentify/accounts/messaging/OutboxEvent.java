@@ -2,6 +2,7 @@ package io.spentify.accounts.messaging;
 
 import io.hypersistence.utils.hibernate.type.json.JsonNodeBinaryType;
 import io.spentify.accounts.DomainEvent;
+import io.spentify.accounts.Identifiers;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -35,7 +36,7 @@ final class OutboxEvent {
 
     public OutboxEvent(DomainEvent event) {
         requireNonNull(event, "event cannot be null");
-        this.id = UUID.randomUUID();
+        this.id = Identifiers.next();
         this.timestamp = requireNonNull(event.issuedOn(), "issuedOn cannot be null");
         this.aggregateid = requireNonNull(event.aggregateId(), "aggregateid cannot be null");
         this.aggregatetype = requireNonNull(event.aggregateType(), "aggregatetype cannot be null");
@@ -1,5 +1,6 @@
 package io.spentify.accounts.messaging;
 
+import io.micrometer.core.annotation.Timed;
 import io.spentify.accounts.DomainEvent;
 import io.spentify.accounts.EventPublisher;
 import jakarta.persistence.EntityManager;
@@ -17,6 +18,7 @@ class OutboxEventPublisher implements EventPublisher {
     private final EntityManager entityManager;
 
     @Override
+    @Timed(value = "outbox.events.publish", description = "Time to write domain events to the outbox")
     public void publish(List<DomainEvent> events) {
         requireNonNull(events, "events cannot be null");
         events.forEach(event -> entityManager.persist(new OutboxEvent(event)));
@@ -0,0 +1,113 @@
+package io.spentify.accounts.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import static java.time.format.DateTimeFormatter.BASIC_ISO_DATE;
+
+/**
+ * Maintains the daily partitions of the range-partitioned {@code outboxevent} table. Creates the partitions of the
+ * next {@code outbox.partitions.premake-days} days and drops the ones entirely older than
+ * {@code outbox.partitions.retention}, so the outbox never grows unbounded and no row is ever deleted one by one.
+ * <p>
+ * Partitions are UTC days, as the timestamps of the outbox are stored in UTC whatever the zone of the JVM. Bounds are
+ * read from the catalog, partitions created by migrations are handled alike. A transaction-level advisory
+ * lock makes concurrent instances skip a run already in progress.
+ */
+@Component
+@Slf4j
+class OutboxPartitions {
+
+    private static final String LOCK = "SELECT pg_try_advisory_xact_lock(hashtext('outboxevent_partitions'))";
+    private static final String PARTITIONS = """
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_inherits i
+                     JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'outboxevent'::regclass
+            """;
+    private static final Pattern BOUNDS = Pattern.compile("FROM \\((?:MINVALUE|'([^']+)')\\) TO \\((?:MAXVALUE|'([^']+)')\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeDays;
+    private final Duration retention;
+
+    OutboxPartitions(JdbcTemplate jdbcTemplate,
+                     TransactionTemplate transactionTemplate,
+                     @Value("${outbox.partitions.premake-days}") int premakeDays,
+                     @Value("${outbox.partitions.retention}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.premakeDays = premakeDays;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${outbox.partitions.maintenance-interval}")
+    void maintain() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK, Boolean.class))) {
+                log.debug("Outbox partitions maintained by another instance");
+                return;
+            }
+            var partitions = jdbcTemplate.query(PARTITIONS, (rs, rowNum) -> Partition.of(rs.getString(1), rs.getString(2)));
+            createAhead(partitions);
+            dropExpired(partitions);
+        });
+    }
+
+    private void createAhead(List<Partition> partitions) {
+        var until = LocalDate.now(ZoneOffset.UTC).plusDays(premakeDays + 1L).atStartOfDay();
+        var from = partitions.stream()
+                .map(Partition::to)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(LocalDate.now(ZoneOffset.UTC).atStartOfDay());
+
+        while (from.isBefore(until)) {
+            var to = from.toLocalDate().plusDays(1).atStartOfDay();
+            var name = "outboxevent_p" + from.format(BASIC_ISO_DATE);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF outboxevent FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(name, from, to));
+            log.info("Created outbox partition {} [{}, {})", name, from, to);
+            from = to;
+        }
+    }
+
+    private void dropExpired(List<Partition> partitions) {
+        var cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(retention);
+        partitions.stream()
+                .filter(partition -> partition.to() != null && !partition.to().isAfter(cutoff))
+                .forEach(partition -> {
+                    jdbcTemplate.execute("DROP TABLE IF EXISTS \"%s\"".formatted(partition.name()));
+                    log.info("Dropped outbox partition {} older than {}", partition.name(), cutoff);
+                });
+    }
+
+    /**
+     * A partition of the outbox with its exclusive upper bound, {@code null} when unbounded.
+     */
+    record Partition(String name, LocalDateTime to) {
+
+        static Partition of(String name, String bound) {
+            var matcher = BOUNDS.matcher(bound);
+            if (!matcher.find()) {
+                throw new IllegalStateException("Unexpected bound of outbox partition '%s': %s".formatted(name, bound));
+            }
+            var to = matcher.group(2);
+            return new Partition(name, to == null ? null : LocalDateTime.parse(to.replace(' ', 'T')));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.spentify.accounts.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-process alternative to the Debezium outbox connector, enabled by {@code outbox.relay.enabled}.
+ * <p>
+ * Every poll claims up to {@code outbox.relay.batch-size} of the oldest rows with {@code FOR UPDATE SKIP LOCKED},
+ * publishes them and deletes them within the same transaction, so any number of instances can relay in parallel
+ * and a failed publication leaves the rows in place for the next poll. Records mirror the ones produced by the
+ * connector's {@code EventRouter}: keyed by aggregate id, payload as value, {@code id}, {@code eventType} and
+ * {@code eventTimestamp} headers, the latter in microseconds since the epoch, routed to
+ * {@code <aggregatetype>.outbox.events}. The {@code timestamp} column is stored as UTC wall-clock time and read as such,
+ * as Debezium does, so both write the same {@code eventTimestamp} whatever the JVM and database zones.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+@Slf4j
+class OutboxRelay {
+
+    private static final String CLAIM = """
+            DELETE FROM outboxevent
+            WHERE (id, timestamp) IN (SELECT id, timestamp FROM outboxevent ORDER BY timestamp LIMIT ? FOR UPDATE SKIP LOCKED)
+            RETURNING id, timestamp, aggregatetype, aggregateid, type, payload::text
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final int batchSize;
+    private final Timer publication;
+    private final Timer lag;
+
+    OutboxRelay(JdbcTemplate jdbcTemplate,
+                TransactionTemplate transactionTemplate,
+                KafkaTemplate<String, String> kafkaTemplate,
+                MeterRegistry meterRegistry,
+                @Value("${outbox.relay.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.publication = Timer.builder("outbox.relay.publication")
+                .description("Time to claim, publish and delete a batch of outbox events")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from an outbox event being issued to its publication")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms}")
+    void relay() {
+        int relayed;
+        do {
+            relayed = publication.record(() -> transactionTemplate.execute(status -> relayBatch()));
+        } while (relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        var events = jdbcTemplate.query(CLAIM, OutboxRelay::toEvent, batchSize).stream()
+                .sorted(Comparator.comparing(ClaimedEvent::timestamp))
+                .toList();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        var sent = events.stream()
+                .map(event -> kafkaTemplate.send(event.toRecord()))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(sent).join();
+
+        var now = Instant.now();
+        events.forEach(event -> lag.record(Duration.between(event.timestamp(), now)));
+        log.debug("Relayed {} outbox events", events.size());
+        return events.size();
+    }
+
+    private static ClaimedEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new ClaimedEvent(
+                rs.getObject("id", UUID.class),
+                timestamp(rs.getObject("timestamp", LocalDateTime.class)),
+                rs.getString("aggregatetype"),
+                rs.getString("aggregateid"),
+                rs.getString("type"),
+                rs.getString("payload"));
+    }
+
+    private record ClaimedEvent(UUID id,
+                                Instant timestamp,
+                                String aggregatetype,
+                                String aggregateid,
+                                String type,
+                                String payload) {
+
+        ProducerRecord<String, String> toRecord() {
+            var record = new ProducerRecord<>(aggregatetype + ".outbox.events", aggregateid, payload);
+            record.headers()
+                    .add("id", id.toString().getBytes(StandardCharsets.UTF_8))
+                    .add("eventType", type.getBytes(StandardCharsets.UTF_8))
+                    .add("eventTimestamp", eventTimestamp(timestamp));
+            return record;
+        }
+    }
+
+    /**
+     * Reads the UTC wall-clock time of the {@code timestamp} column, ignoring the JVM zone.
+     */
+    static Instant timestamp(LocalDateTime stored) {
+        return stored.toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Encodes the {@code eventTimestamp} header as the connector does a {@code TIMESTAMP} column, a
+     * {@code MicroTimestamp}: microseconds since the epoch.
+     */
+    static byte[] eventTimestamp(Instant timestamp) {
+        return Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, timestamp)).getBytes(StandardCharsets.UTF_8);
+    }
+}
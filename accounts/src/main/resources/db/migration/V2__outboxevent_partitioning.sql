@@ -0,0 +1,52 @@
+-- Range-partition the outbox by timestamp, one partition per day. Partitions are created ahead and dropped
+-- once older than the retention window by OutboxPartitions, so the outbox stays bounded without row deletes.
+-- Existing rows are kept in place: the former table becomes the first partition, no row is rewritten or re-published.
+ALTER TABLE outboxevent
+    RENAME TO outboxevent_legacy;
+ALTER TABLE outboxevent_legacy
+    DROP CONSTRAINT outboxevent_pkey,
+    ADD CONSTRAINT outboxevent_legacy_pkey PRIMARY KEY (id, timestamp);
+ALTER TABLE outboxevent_legacy
+    REPLICA IDENTITY DEFAULT;
+
+CREATE TABLE IF NOT EXISTS outboxevent
+(
+    id            UUID         NOT NULL DEFAULT gen_random_uuid(),
+    timestamp     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    aggregatetype VARCHAR(255) NOT NULL,
+    aggregateid   VARCHAR(255) NOT NULL,
+    type          VARCHAR(255) NOT NULL,
+    payload       JSONB        NOT NULL,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+DO
+$$
+    DECLARE
+        bound DATE := GREATEST(CURRENT_DATE + 1, (SELECT MAX(timestamp)::DATE + 1 FROM outboxevent_legacy));
+    BEGIN
+        EXECUTE format('ALTER TABLE outboxevent ATTACH PARTITION outboxevent_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+                       bound);
+        FOR i IN 0..6
+            LOOP
+                EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF outboxevent FOR VALUES FROM (%L) TO (%L)',
+                               'outboxevent_p' || to_char(bound + i, 'YYYYMMDD'), bound + i, bound + i + 1);
+            END LOOP;
+    END
+$$;
+
+-- Logical decoding of partitions is published as changes of the outboxevent root table,
+-- as expected by the connector's table.include.list.
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM pg_publication WHERE pubname = 'dbz_publication') THEN
+            IF NOT (SELECT puballtables FROM pg_publication WHERE pubname = 'dbz_publication') THEN
+                ALTER PUBLICATION dbz_publication SET TABLE outboxevent;
+            END IF;
+            ALTER PUBLICATION dbz_publication SET (publish_via_partition_root = true);
+        ELSE
+            CREATE PUBLICATION dbz_publication FOR TABLE outboxevent WITH (publish_via_partition_root = true);
+        END IF;
+    END
+$$;
@@ -0,0 +1,29 @@
+package io.spentify.accounts;
+
+import io.spentify.accounts.Account.EmailAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of an {@link Account} and of its RFC 5322 validated {@link EmailAddress}.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=AccountBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountBenchmark {
+
+    @Benchmark
+    public EmailAddress emailAddress() {
+        return new EmailAddress("aryastark@email.me");
+    }
+
+    @Benchmark
+    public Account account() {
+        return new Account("Arya", "Stark", new EmailAddress("aryastark@email.me"));
+    }
+}
@@ -0,0 +1,32 @@
+package io.spentify.accounts;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.spentify.accounts.Account.EmailAddress;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the outbox payload of an {@link AccountCreated} event.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=AccountCreatedBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountCreatedBenchmark {
+
+    private AccountCreated event;
+
+    @Setup
+    public void setUp() {
+        event = new AccountCreated(new Account("Arya", "Stark", new EmailAddress("aryastark@email.me")));
+    }
+
+    @Benchmark
+    public JsonNode payload() {
+        return event.payload();
+    }
+}
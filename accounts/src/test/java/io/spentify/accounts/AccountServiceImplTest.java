@@ -1,5 +1,6 @@
 package io.spentify.accounts;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.spentify.accounts.Account.AccountIdentifier;
 import io.spentify.accounts.Account.EmailAddress;
 import jakarta.validation.ConstraintViolationException;
@@ -26,6 +27,7 @@ class AccountServiceImplTest {
 
     Accounts accounts;
     EventPublisher eventPublisher;
+    SimpleMeterRegistry meterRegistry;
 
     AccountServiceImpl service;
 
@@ -33,7 +35,8 @@ class AccountServiceImplTest {
     void setUp() {
         accounts = Mockito.mock(Accounts.class);
         eventPublisher = Mockito.mock(EventPublisher.class);
-        service = new AccountServiceImpl(accounts, eventPublisher);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AccountServiceImpl(accounts, eventPublisher, new FailureCounter(meterRegistry));
     }
 
     @ParameterizedTest
@@ -156,6 +159,11 @@ class AccountServiceImplTest {
 
         // and
         verify(accounts).existsByEmailAddress(any(EmailAddress.class));
+
+        // and: the failure is counted
+        assertThat(meterRegistry.get(FailureCounter.NAME)
+                .tags("operation", "account.create", "type", "EmailAlreadyExists")
+                .counter().count()).isEqualTo(1);
     }
 
     @Test
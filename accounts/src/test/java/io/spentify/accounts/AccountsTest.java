@@ -0,0 +1,54 @@
+package io.spentify.accounts;
+
+import io.spentify.accounts.AccountService.CreateAccountCommand;
+import io.spentify.accounts.jdbc.StatementCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static io.spentify.accounts.jdbc.StatementCountsAssert.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+class AccountsTest extends TestContainersSetup {
+
+    @Autowired
+    AccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatements.clear();
+    }
+
+    @Test
+    @DisplayName("Should persist a new account with a single INSERT and no SELECT by id")
+    void createNewAccountWithSingleInsert() {
+        // given
+        var command = CreateAccountCommand.builder()
+                .firstName("Arya")
+                .lastName("Stark")
+                .emailAddress("aryastark@email.me")
+                .build();
+
+        // when
+        Account account;
+        try (var counts = StatementCounts.open()) {
+            account = accountService.create(command);
+
+            // then: the email check, the account and its outbox event, nothing else
+            assertStatements(counts).hasSelects(1).hasInserts(2).hasStatements(3).hasRows(2);
+        }
+        assertThat(account.isNew()).isFalse();
+
+        // and: one INSERT per created aggregate
+        assertThat(SqlStatements.inserts("accounts")).isEqualTo(1);
+        assertThat(SqlStatements.inserts("outboxevent")).isEqualTo(1);
+
+        // and: the email uniqueness check is the only SELECT
+        assertThat(SqlStatements.selects("accounts")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,33 @@
+package io.spentify.accounts;
+
+import io.spentify.accounts.AccountService.CreateAccountCommand;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and allocation of constructing a self-validated {@link CreateAccountCommand} with the shared validator,
+ * against building a validator factory per command as {@link SelfValidating} used to.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=CreateAccountCommandBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateAccountCommandBenchmark {
+
+    @Benchmark
+    public CreateAccountCommand sharedValidator() {
+        return new CreateAccountCommand("Arya", "Stark", "aryastark@email.me");
+    }
+
+    @Benchmark
+    public Set<?> validatorFactoryPerCommand() {
+        var command = new CreateAccountCommand("Arya", "Stark", "aryastark@email.me");
+        return Validation.buildDefaultValidatorFactory().getValidator().validate(command);
+    }
+}
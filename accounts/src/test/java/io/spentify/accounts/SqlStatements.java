@@ -0,0 +1,40 @@
+package io.spentify.accounts;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Records every SQL statement issued by Hibernate, registered through
+ * {@code hibernate.session_factory.statement_inspector} in the test properties.
+ */
+public final class SqlStatements implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static long inserts(String table) {
+        return count(Pattern.compile("^insert\\s+into\\s+" + table + "\\s", Pattern.CASE_INSENSITIVE));
+    }
+
+    public static long selects(String table) {
+        return count(Pattern.compile("^select\\s.+\\sfrom\\s+" + table + "\\s", Pattern.CASE_INSENSITIVE));
+    }
+
+    private static long count(Pattern pattern) {
+        return statements.stream()
+                .filter(sql -> pattern.matcher(sql.trim()).find())
+                .count();
+    }
+}
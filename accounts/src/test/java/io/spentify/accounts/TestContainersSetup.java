@@ -75,6 +75,7 @@ public abstract class TestContainersSetup {
         Startables.deepStart(Stream.of(postgresSQL, kafka, connector))
                 .join();
 
+        registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
         registry.add("spring.datasource.url", postgresSQL::getJdbcUrl);
         registry.add("spring.datasource.username", postgresSQL::getUsername);
         registry.add("spring.datasource.password", postgresSQL::getUsername);
@@ -120,7 +121,7 @@ public abstract class TestContainersSetup {
         );
     }
 
-    private void createOutboxTopic(String topic) {
+    protected void createOutboxTopic(String topic) {
         var props = new Properties();
         props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
 
@@ -0,0 +1,59 @@
+package io.spentify.accounts.jdbc;
+
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * Assertions on the {@link StatementCounts} of a block of code.
+ * <pre>{@code
+ * try (var counts = StatementCounts.open()) {
+ *     accountService.create(command);
+ * }
+ * assertStatements(counts).hasInserts(2).hasSelects(0);
+ * }</pre>
+ */
+public final class StatementCountsAssert extends AbstractAssert<StatementCountsAssert, StatementCounts> {
+
+    private StatementCountsAssert(StatementCounts actual) {
+        super(actual, StatementCountsAssert.class);
+    }
+
+    public static StatementCountsAssert assertStatements(StatementCounts actual) {
+        return new StatementCountsAssert(actual);
+    }
+
+    public StatementCountsAssert hasSelects(long expected) {
+        return has("selects", actual.selects(), expected);
+    }
+
+    public StatementCountsAssert hasInserts(long expected) {
+        return has("inserts", actual.inserts(), expected);
+    }
+
+    public StatementCountsAssert hasUpdates(long expected) {
+        return has("updates", actual.updates(), expected);
+    }
+
+    public StatementCountsAssert hasDeletes(long expected) {
+        return has("deletes", actual.deletes(), expected);
+    }
+
+    public StatementCountsAssert hasStatements(long expected) {
+        return has("statements", actual.statements(), expected);
+    }
+
+    public StatementCountsAssert hasBatches(long expected) {
+        return has("batches", actual.batches(), expected);
+    }
+
+    public StatementCountsAssert hasRows(long expected) {
+        return has("rows", actual.rows(), expected);
+    }
+
+    private StatementCountsAssert has(String what, long count, long expected) {
+        isNotNull();
+        if (count != expected) {
+            failWithMessage("Expected %d %s but was %d in %s", expected, what, count, actual);
+        }
+        return this;
+    }
+}
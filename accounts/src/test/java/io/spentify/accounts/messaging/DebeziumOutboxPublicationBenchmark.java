@@ -0,0 +1,24 @@
+package io.spentify.accounts.messaging;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+class DebeziumOutboxPublicationBenchmark extends OutboxPublicationBenchmark {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Override
+    String path() {
+        return "debezium";
+    }
+
+    @Override
+    void setUpPublication() throws Exception {
+        setUpAccountDebeziumConnector(restTemplate, TOPIC);
+    }
+}
@@ -0,0 +1,93 @@
+package io.spentify.accounts.messaging;
+
+import io.spentify.accounts.TestContainersSetup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.TimeZone;
+
+import static java.time.format.DateTimeFormatter.BASIC_ISO_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+class OutboxPartitionsTest extends TestContainersSetup {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should create outbox partitions ahead")
+    void createPartitionsAhead() {
+        // given
+        var partitions = new OutboxPartitions(jdbcTemplate, transactionTemplate, 10, Duration.ofDays(7));
+
+        // when
+        partitions.maintain();
+
+        // then
+        assertThat(partitions()).contains(partition(LocalDate.now().plusDays(10)));
+    }
+
+    @Test
+    @DisplayName("Should drop outbox partitions older than retention")
+    void dropExpiredPartitions() {
+        // given: a retention expiring every partition up to tomorrow
+        var partitions = new OutboxPartitions(jdbcTemplate, transactionTemplate, 7, Duration.ofDays(-2));
+
+        // when
+        partitions.maintain();
+
+        // then
+        assertThat(partitions())
+                .doesNotContain("outboxevent_legacy", partition(LocalDate.now().plusDays(1)))
+                .contains(partition(LocalDate.now().plusDays(2)));
+    }
+
+    @Test
+    @DisplayName("Should maintain outbox partitions of UTC days in a zone ahead of UTC")
+    void maintainUtcDaysAheadOfUtc() {
+        // given
+        var defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Pacific/Kiritimati"));
+        try {
+            var partitions = new OutboxPartitions(jdbcTemplate, transactionTemplate, 3, Duration.ofDays(-2));
+
+            // when
+            partitions.maintain();
+
+            // then
+            var today = LocalDate.now(ZoneOffset.UTC);
+            assertThat(partitions())
+                    .contains(partition(today.plusDays(2)), partition(today.plusDays(3)))
+                    .doesNotContain(partition(today.plusDays(1)));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                         JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'outboxevent'::regclass
+                """, String.class);
+    }
+
+    private static String partition(LocalDate day) {
+        return "outboxevent_p" + day.format(BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,98 @@
+package io.spentify.accounts.messaging;
+
+import io.spentify.accounts.AccountService;
+import io.spentify.accounts.AccountService.CreateAccountCommand;
+import io.spentify.accounts.TestContainersSetup;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures outbox events published per second and the end-to-end latency from account creation to consumption.
+ * Run with {@code mvn verify -Pbenchmark}, the number of accounts is set by {@code -Dbenchmark.accounts}.
+ */
+@Tag("benchmark")
+@Slf4j
+abstract class OutboxPublicationBenchmark extends TestContainersSetup {
+
+    static final String TOPIC = "account.outbox.events";
+
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.accounts", 2_000);
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    @Autowired
+    AccountService accountService;
+
+    abstract String path();
+
+    abstract void setUpPublication() throws Exception;
+
+    @Test
+    @DisplayName("Should report outbox events published per second and end-to-end latency")
+    void eventsPublishedPerSecond() throws Exception {
+        // given: outbox events published to the topic
+        setUpPublication();
+
+        try (var consumer = kafkaConsumer()) {
+            consumer.subscribe(List.of(TOPIC));
+            while (consumer.assignment().isEmpty()) {
+                consumer.poll(Duration.ofMillis(50));
+            }
+
+            // when: accounts created
+            var issued = new ConcurrentHashMap<String, Long>();
+            var start = System.nanoTime();
+            var creation = CompletableFuture.runAsync(() -> create(issued));
+
+            // then: every event is consumed
+            var received = new HashMap<String, Long>();
+            var deadline = start + TIMEOUT.toNanos();
+            while (received.size() < ACCOUNTS && System.nanoTime() < deadline) {
+                for (var record : consumer.poll(Duration.ofMillis(50))) {
+                    received.putIfAbsent(record.key(), System.nanoTime());
+                }
+            }
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            creation.join();
+            assertThat(received).hasSize(ACCOUNTS);
+
+            // and: throughput and latency reported
+            var latencies = received.entrySet().stream()
+                    .map(entry -> entry.getValue() - issued.get(entry.getKey()))
+                    .sorted()
+                    .toList();
+            log.info("path={} events={} elapsed={}ms events/s={} latency p50={}ms p99={}ms max={}ms",
+                    path(), ACCOUNTS, elapsed.toMillis(), ACCOUNTS * 1_000L / Math.max(1, elapsed.toMillis()),
+                    millis(latencies, 0.50), millis(latencies, 0.99), millis(latencies, 1.0));
+        }
+    }
+
+    private void create(Map<String, Long> issued) {
+        for (var i = 0; i < ACCOUNTS; i++) {
+            var command = CreateAccountCommand.builder()
+                    .firstName("Arya")
+                    .lastName("Stark")
+                    .emailAddress("arya.stark.%d@email.me".formatted(i))
+                    .build();
+            var issuedAt = System.nanoTime();
+            var account = accountService.create(command);
+            issued.put(account.getId().toString(), issuedAt);
+        }
+    }
+
+    private static long millis(List<Long> sortedNanos, double percentile) {
+        var index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return Duration.ofNanos(sortedNanos.get(Math.max(0, index))).toMillis();
+    }
+}
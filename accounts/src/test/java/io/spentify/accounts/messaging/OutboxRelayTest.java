@@ -0,0 +1,69 @@
+package io.spentify.accounts.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.spentify.accounts.AccountService;
+import io.spentify.accounts.AccountService.CreateAccountCommand;
+import io.spentify.accounts.TestContainersSetup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.rnorth.ducttape.unreliables.Unreliables;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest(properties = {"outbox.relay.enabled=true", "outbox.relay.poll-interval-ms=50"})
+class OutboxRelayTest extends TestContainersSetup {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should relay outbox events to kafka and delete them")
+    void relayOutboxEvents() {
+        // given: a new account
+        var command = CreateAccountCommand.builder()
+                .firstName("Arya")
+                .lastName("Stark")
+                .emailAddress("aryastark@email.me")
+                .build();
+
+        // when
+        var account = accountService.create(command);
+
+        // then: event published keyed by aggregate id
+        try (var consumer = kafkaConsumer()) {
+            consumer.subscribe(List.of("account.outbox.events"));
+
+            var records = drain(consumer, 1);
+
+            var record = records.getFirst();
+            assertThat(record.key()).isEqualTo(account.getId().toString());
+            assertThat(new String(record.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8))
+                    .isEqualTo("AccountCreated");
+            assertThat(record.headers().lastHeader("id")).isNotNull();
+            assertThat(Long.parseLong(new String(record.headers().lastHeader("eventTimestamp").value(), StandardCharsets.UTF_8)))
+                    .isPositive();
+        }
+
+        // and: outbox is emptied
+        Unreliables.retryUntilTrue(10, TimeUnit.SECONDS,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outboxevent", Long.class) == 0);
+
+        // and: latency is recorded
+        assertThat(meterRegistry.get("outbox.relay.lag").timer().count()).isEqualTo(1);
+    }
+}
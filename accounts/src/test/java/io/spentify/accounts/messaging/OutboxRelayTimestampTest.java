@@ -0,0 +1,46 @@
+package io.spentify.accounts.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class OutboxRelayTimestampTest {
+
+    @Test
+    @DisplayName("Should encode the eventTimestamp header as Debezium encodes the timestamp column")
+    void encodeAsDebezium() {
+        // given: the UTC wall-clock time stored, emitted by Debezium as a MicroTimestamp of 1706696130123456
+        var stored = LocalDateTime.parse("2024-01-31T10:15:30.123456");
+
+        // when
+        var header = OutboxRelay.eventTimestamp(OutboxRelay.timestamp(stored));
+
+        // then
+        assertThat(new String(header, StandardCharsets.UTF_8)).isEqualTo("1706696130123456");
+    }
+
+    @Test
+    @DisplayName("Should read the timestamp column as UTC whatever the JVM zone")
+    void readAsUtc() {
+        // given
+        var defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+        try {
+            // when
+            var timestamp = OutboxRelay.timestamp(LocalDateTime.parse("2024-01-31T10:15:30.123456"));
+
+            // then
+            assertThat(timestamp).isEqualTo(Instant.parse("2024-01-31T10:15:30.123456Z"));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.spentify.accounts.messaging;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "outbox.relay.enabled=true")
+class RelayOutboxPublicationBenchmark extends OutboxPublicationBenchmark {
+
+    @Override
+    String path() {
+        return "relay";
+    }
+
+    @Override
+    void setUpPublication() {
+        createOutboxTopic(TOPIC);
+    }
+}
@@ -15,10 +15,15 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 import static io.spentify.accounts.web.JsonPayloads.*;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.time.temporal.ChronoUnit.MINUTES;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.skyscreamer.jsonassert.JSONCompareMode.LENIENT;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 import static org.springframework.http.HttpStatus.CREATED;
@@ -59,6 +64,10 @@ class AccountControllerTest extends TestContainersSetup {
 
             JSONAssert.assertEquals(resp.getBody(), changeEvents.getFirst().value(), JSONCompareMode.STRICT);
 
+            // and: the event timestamp, a MicroTimestamp of the UTC wall-clock time stored, is the time it was written
+            var eventTimestamp = new String(changeEvents.getFirst().headers().lastHeader("eventTimestamp").value(), StandardCharsets.UTF_8);
+            assertThat(Instant.EPOCH.plus(Long.parseLong(eventTimestamp), MICROS)).isCloseTo(Instant.now(), within(1, MINUTES));
+
             consumer.unsubscribe();
         }
     }
@@ -0,0 +1,272 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.SpendAnalyticsUseCase.Grouping;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The expenses of an account held as primitive columns, one array per field indexed by row, with a bitmap of the rows
+ * of every category and payment type. Categories and currencies are stored as ordinals of per-account dictionaries.
+ * <p>
+ * An aggregation scans the rows set in the bitmap of the filtered category or payment type, or every row, and sums them
+ * into arrays indexed by group and currency ordinals, so it allocates nothing per row. Rows are only ever appended.
+ */
+final class AccountColumns {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Payment.Type[] PAYMENT_TYPES = Payment.Type.values();
+    private static final byte ANY_PAYMENT_TYPE = -1;
+
+    /**
+     * The bytes of a row across the columns: epoch day, amount units, category, payment type and currency ordinals.
+     */
+    private static final int ROW_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES + Byte.BYTES;
+    private static final int DICTIONARY_ENTRY_BYTES = 96;
+    private static final int OVERHEAD_BYTES = 512;
+
+    private final long loadStarted;
+    private long loadFinished;
+
+    private final List<UUID> categories = new ArrayList<>();
+    private final Map<UUID, Integer> categoryOrdinals = new HashMap<>();
+    private final List<BitSet> categoryRows = new ArrayList<>();
+    private final BitSet[] paymentTypeRows = new BitSet[PAYMENT_TYPES.length];
+    private final List<Currency> currencies = new ArrayList<>();
+    private final Map<Currency, Integer> currencyOrdinals = new HashMap<>();
+
+    private int size;
+    private int minDay = Integer.MAX_VALUE;
+    private int maxDay = Integer.MIN_VALUE;
+    private int[] days = new int[INITIAL_CAPACITY];
+    private long[] units = new long[INITIAL_CAPACITY];
+    private int[] categoryColumn = new int[INITIAL_CAPACITY];
+    private byte[] paymentTypes = new byte[INITIAL_CAPACITY];
+    private byte[] currencyColumn = new byte[INITIAL_CAPACITY];
+
+    /**
+     * @param loadStarted The {@link System#nanoTime()} before the expenses of the account were read.
+     */
+    AccountColumns(long loadStarted) {
+        this.loadStarted = loadStarted;
+        Arrays.setAll(paymentTypeRows, type -> new BitSet());
+    }
+
+    /**
+     * Marks the columns as loaded.
+     *
+     * @param loadFinished The {@link System#nanoTime()} after the expenses of the account were read.
+     * @return The columns.
+     */
+    AccountColumns loaded(long loadFinished) {
+        this.loadFinished = loadFinished;
+        return this;
+    }
+
+    long loadStarted() {
+        return loadStarted;
+    }
+
+    long loadFinished() {
+        return loadFinished;
+    }
+
+    synchronized void add(LocalDate expenseDate, Amount amount, UUID categoryId, Payment.Type paymentType) {
+        requireNonNull(expenseDate, "expenseDate cannot be null");
+        requireNonNull(amount, "amount cannot be null");
+        requireNonNull(categoryId, "categoryId cannot be null");
+        requireNonNull(paymentType, "paymentType cannot be null");
+
+        if (size == days.length) {
+            grow();
+        }
+
+        var day = Math.toIntExact(expenseDate.toEpochDay());
+        var category = categoryOrdinal(categoryId);
+        days[size] = day;
+        units[size] = amount.units();
+        categoryColumn[size] = category;
+        paymentTypes[size] = (byte) paymentType.ordinal();
+        currencyColumn[size] = currencyOrdinal(amount.currency());
+        categoryRows.get(category).set(size);
+        paymentTypeRows[paymentType.ordinal()].set(size);
+
+        minDay = Math.min(minDay, day);
+        maxDay = Math.max(maxDay, day);
+        size++;
+    }
+
+    void add(Expense expense) {
+        add(expense.getExpenseDate(), expense.getAmount(), expense.getCategory().id(), expense.getPaymentType());
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the heap held by the columns, bitmaps and dictionaries, as weighed against the memory budget.
+     *
+     * @return The estimated number of bytes.
+     */
+    synchronized int weight() {
+        var capacity = (long) days.length;
+        var bitmaps = (long) (categoryRows.size() + PAYMENT_TYPES.length) * (capacity / Byte.SIZE);
+        var dictionaries = (long) (categories.size() + currencies.size()) * DICTIONARY_ENTRY_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, OVERHEAD_BYTES + capacity * ROW_BYTES + bitmaps + dictionaries);
+    }
+
+    /**
+     * Aggregates the rows matching the filters per category or per month, and currency.
+     *
+     * @param from        The earliest expense date, inclusive, or {@code null}.
+     * @param to          The latest expense date, inclusive, or {@code null}.
+     * @param categoryId  The category of the expenses, or {@code null}.
+     * @param paymentType The payment type of the expenses, or {@code null}.
+     * @param grouping    How the expenses are grouped.
+     * @return The groups with at least one expense, in no particular order.
+     */
+    synchronized List<SpendGroup> aggregate(LocalDate from, LocalDate to, UUID categoryId, Payment.Type paymentType, Grouping grouping) {
+        requireNonNull(grouping, "grouping cannot be null");
+
+        if (size == 0) {
+            return List.of();
+        }
+
+        // the bitmap of the category, else of the payment type, drives the scan, the other filters are row checks
+        BitSet rows = null;
+        if (categoryId != null) {
+            var category = categoryOrdinals.get(categoryId);
+            if (category == null) {
+                return List.of();
+            }
+            rows = categoryRows.get(category);
+        } else if (paymentType != null) {
+            rows = paymentTypeRows[paymentType.ordinal()];
+        }
+        var type = categoryId != null && paymentType != null ? (byte) paymentType.ordinal() : ANY_PAYMENT_TYPE;
+
+        var fromDay = from == null ? minDay : (int) Math.max(minDay, from.toEpochDay());
+        var toDay = to == null ? maxDay : (int) Math.min(maxDay, to.toEpochDay());
+        if (fromDay > toDay) {
+            return List.of();
+        }
+
+        return switch (grouping) {
+            case CATEGORY -> aggregatePerCategory(rows, type, fromDay, toDay);
+            case MONTH -> aggregatePerMonth(rows, type, fromDay, toDay);
+        };
+    }
+
+    private List<SpendGroup> aggregatePerCategory(BitSet rows, byte type, int fromDay, int toDay) {
+        var width = currencies.size();
+        var totals = new long[categories.size() * width];
+        var counts = new long[totals.length];
+
+        for (var row = first(rows); row >= 0; row = next(rows, row)) {
+            var day = days[row];
+            if (day < fromDay || day > toDay || type != ANY_PAYMENT_TYPE && paymentTypes[row] != type) {
+                continue;
+            }
+            var group = categoryColumn[row] * width + currencyColumn[row];
+            totals[group] = Math.addExact(totals[group], units[row]);
+            counts[group]++;
+        }
+
+        var groups = new ArrayList<SpendGroup>();
+        for (var group = 0; group < totals.length; group++) {
+            if (counts[group] > 0) {
+                groups.add(new SpendGroup(categories.get(group / width), null,
+                        new Amount(totals[group], currencies.get(group % width)), counts[group]));
+            }
+        }
+        return groups;
+    }
+
+    private List<SpendGroup> aggregatePerMonth(BitSet rows, byte type, int fromDay, int toDay) {
+        var firstMonth = epochMonth(fromDay);
+        var width = currencies.size();
+        var totals = new long[(epochMonth(toDay) - firstMonth + 1) * width];
+        var counts = new long[totals.length];
+
+        // rows are mostly in expense date order, a row usually has the day, hence the month, of the previous one
+        var lastDay = Integer.MIN_VALUE;
+        var month = 0;
+        for (var row = first(rows); row >= 0; row = next(rows, row)) {
+            var day = days[row];
+            if (day < fromDay || day > toDay || type != ANY_PAYMENT_TYPE && paymentTypes[row] != type) {
+                continue;
+            }
+            if (day != lastDay) {
+                lastDay = day;
+                month = epochMonth(day) - firstMonth;
+            }
+            var group = month * width + currencyColumn[row];
+            totals[group] = Math.addExact(totals[group], units[row]);
+            counts[group]++;
+        }
+
+        var start = YearMonth.from(LocalDate.ofEpochDay(fromDay));
+        var groups = new ArrayList<SpendGroup>();
+        for (var group = 0; group < totals.length; group++) {
+            if (counts[group] > 0) {
+                groups.add(new SpendGroup(null, start.plusMonths(group / width),
+                        new Amount(totals[group], currencies.get(group % width)), counts[group]));
+            }
+        }
+        return groups;
+    }
+
+    private int first(BitSet rows) {
+        return rows == null ? 0 : rows.nextSetBit(0);
+    }
+
+    private int next(BitSet rows, int row) {
+        if (rows == null) {
+            return row + 1 < size ? row + 1 : -1;
+        }
+        return rows.nextSetBit(row + 1);
+    }
+
+    private static int epochMonth(int epochDay) {
+        var date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private int categoryOrdinal(UUID categoryId) {
+        return categoryOrdinals.computeIfAbsent(categoryId, id -> {
+            categories.add(id);
+            categoryRows.add(new BitSet());
+            return categories.size() - 1;
+        });
+    }
+
+    private byte currencyOrdinal(Currency currency) {
+        return (byte) (int) currencyOrdinals.computeIfAbsent(currency, c -> {
+            if (currencies.size() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("more than %d currencies in an account".formatted(Byte.MAX_VALUE + 1));
+            }
+            currencies.add(c);
+            return currencies.size() - 1;
+        });
+    }
+
+    private void grow() {
+        var capacity = days.length * 2;
+        days = Arrays.copyOf(days, capacity);
+        units = Arrays.copyOf(units, capacity);
+        categoryColumn = Arrays.copyOf(categoryColumn, capacity);
+        paymentTypes = Arrays.copyOf(paymentTypes, capacity);
+        currencyColumn = Arrays.copyOf(currencyColumn, capacity);
+    }
+}
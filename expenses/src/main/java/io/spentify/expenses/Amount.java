@@ -0,0 +1,218 @@
+package io.spentify.expenses;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.io.Serializable;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compact fixed-point amount of money, a count of ten-thousandths of the currency unit in a {@code long}.
+ * <p>
+ * The scale is the one of the {@code DECIMAL(19, 4)} amount columns, so every stored amount round-trips exactly.
+ * Comparison and addition are plain {@code long} arithmetic, and {@link Currency} instances are shared per currency
+ * code, so an {@link Amount} allocates nothing but itself. It is meant for the hot paths adding up or parsing many
+ * amounts, where a {@code MonetaryAmount} would allocate a {@link BigDecimal} and a context per operation.
+ *
+ * @param units    The amount in ten-thousandths of the currency unit.
+ * @param currency The currency of the amount.
+ */
+public record Amount(long units, Currency currency) implements Comparable<Amount>, Serializable {
+
+    /**
+     * The number of fraction digits kept.
+     */
+    public static final int SCALE = 4;
+
+    private static final long ONE = 10_000L;
+
+    public Amount {
+        requireNonNull(currency, "currency cannot be null");
+    }
+
+    public static Amount zero(Currency currency) {
+        return new Amount(0, currency);
+    }
+
+    /**
+     * Creates the amount of the value in the currency.
+     *
+     * @throws ArithmeticException If the value has more than {@link #SCALE} significant fraction digits or overflows.
+     */
+    public static Amount of(BigDecimal value, Currency currency) {
+        requireNonNull(value, "value cannot be null");
+        return new Amount(value.movePointRight(SCALE).longValueExact(), currency);
+    }
+
+    public static Amount of(BigDecimal value, String currencyCode) {
+        return of(value, Currency.getInstance(currencyCode));
+    }
+
+    /**
+     * Parses a plain decimal such as {@code -12.5} without going through {@link BigDecimal}.
+     *
+     * @throws NumberFormatException If the text is not a plain decimal, has more than {@link #SCALE} significant fraction
+     *                               digits or overflows.
+     */
+    public static Amount parse(CharSequence text, Currency currency) {
+        requireNonNull(text, "text cannot be null");
+
+        var length = text.length();
+        var i = 0;
+        var negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+
+        var units = 0L;
+        var digits = 0;
+        var fraction = -1;
+        try {
+            for (; i < length; i++) {
+                var c = text.charAt(i);
+                if (c == '.' && fraction < 0) {
+                    fraction = 0;
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    throw new NumberFormatException("Malformed amount '" + text + "'");
+                }
+
+                digits++;
+                if (fraction >= 0 && ++fraction > SCALE) {
+                    if (c != '0') {
+                        throw new NumberFormatException("Amount '" + text + "' has more than " + SCALE + " fraction digits");
+                    }
+                    continue;
+                }
+                units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+            }
+            if (digits == 0) {
+                throw new NumberFormatException("Malformed amount '" + text + "'");
+            }
+
+            for (var f = Math.max(fraction, 0); f < SCALE; f++) {
+                units = Math.multiplyExact(units, 10);
+            }
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount '" + text + "' overflows");
+        }
+
+        return new Amount(negative ? -units : units, currency);
+    }
+
+    public static Amount parse(CharSequence text, String currencyCode) {
+        return parse(text, Currency.getInstance(currencyCode));
+    }
+
+    /**
+     * @throws IllegalArgumentException If the currencies differ.
+     * @throws ArithmeticException      If the sum overflows.
+     */
+    public Amount plus(Amount other) {
+        requireSameCurrency(other);
+        return new Amount(Math.addExact(units, other.units), currency);
+    }
+
+    /**
+     * Converts the amount at the rate, rounding half even to the closest ten-thousandth.
+     *
+     * @param rate     The number of target currency units per unit of the amount currency.
+     * @param currency The target currency.
+     * @throws ArithmeticException If the converted amount overflows.
+     */
+    public Amount convert(BigDecimal rate, Currency currency) {
+        requireNonNull(rate, "rate cannot be null");
+        return new Amount(BigDecimal.valueOf(units).multiply(rate).setScale(0, RoundingMode.HALF_EVEN).longValueExact(),
+                currency);
+    }
+
+    public boolean isPositive() {
+        return units > 0;
+    }
+
+    /**
+     * @throws IllegalArgumentException If the currencies differ.
+     */
+    @Override
+    public int compareTo(Amount other) {
+        requireSameCurrency(other);
+        return Long.compare(units, other.units);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * Formats the amount as a plain decimal with {@link #SCALE} fraction digits, such as {@code 12.5000}.
+     */
+    public String toPlainString() {
+        var fraction = Math.abs(units % ONE);
+        var text = new StringBuilder(24);
+        if (units < 0) {
+            text.append('-');
+        }
+        text.append(Math.abs(units / ONE)).append('.');
+        for (var digit = ONE / 10; digit > fraction && digit > 1; digit /= 10) {
+            text.append('0');
+        }
+        return text.append(fraction).toString();
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    /**
+     * Checks a nullable ISO 4217 currency code.
+     */
+    @Target({FIELD})
+    @Retention(RUNTIME)
+    @Constraint(validatedBy = CheckCurrencyValidator.class)
+    @Documented
+    public @interface CheckCurrency {
+        String message() default "{io.spentify.expenses.Amount.currency.message}";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class CheckCurrencyValidator implements ConstraintValidator<CheckCurrency, String> {
+
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+
+            try {
+                Currency.getInstance(value);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+
+    private void requireSameCurrency(Amount other) {
+        requireNonNull(other, "other cannot be null");
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Currency mismatch " + currency + " and " + other.currency);
+        }
+    }
+}
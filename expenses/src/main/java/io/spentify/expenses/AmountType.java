@@ -0,0 +1,84 @@
+package io.spentify.expenses;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.ValueAccess;
+import org.hibernate.usertype.CompositeUserType;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Maps an {@link Amount} to an {@code amount} decimal and a {@code currency} code column, the columns are named through
+ * {@code @AttributeOverride}s of the {@code amount} and {@code currency} properties.
+ */
+public class AmountType implements CompositeUserType<Amount> {
+
+    @Override
+    public Object getPropertyValue(Amount component, int property) throws HibernateException {
+        // properties are indexed in alphabetical order
+        return switch (property) {
+            case 0 -> component.toBigDecimal();
+            case 1 -> component.currency().getCurrencyCode();
+            default -> throw new HibernateException("Unknown Amount property " + property);
+        };
+    }
+
+    @Override
+    public Amount instantiate(ValueAccess values, SessionFactoryImplementor sessionFactory) {
+        var amount = values.getValue(0, BigDecimal.class);
+        var currency = values.getValue(1, String.class);
+        return amount == null || currency == null ? null : Amount.of(amount, currency);
+    }
+
+    @Override
+    public Class<?> embeddable() {
+        return AmountMapper.class;
+    }
+
+    @Override
+    public Class<Amount> returnedClass() {
+        return Amount.class;
+    }
+
+    @Override
+    public boolean equals(Amount x, Amount y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Amount x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Amount deepCopy(Amount value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(Amount value) {
+        return value;
+    }
+
+    @Override
+    public Amount assemble(Serializable cached, Object owner) {
+        return (Amount) cached;
+    }
+
+    @Override
+    public Amount replace(Amount detached, Amount managed, Object owner) {
+        return detached;
+    }
+
+    public static class AmountMapper {
+        BigDecimal amount;
+        String currency;
+    }
+}
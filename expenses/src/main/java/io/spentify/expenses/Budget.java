@@ -0,0 +1,82 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CompositeType;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+import static java.util.Objects.requireNonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * The {@link Budget} class represents the monthly spend limit of an account in a category, identified by the category
+ * it applies to.
+ * <p>
+ * The entity reports itself as {@link Persistable#isNew() new} until it is persisted or loaded, so saving a new budget
+ * results in a single INSERT.
+ */
+@Entity
+@Table(name = "budget")
+@Getter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = PRIVATE, force = true)
+public class Budget implements Persistable<CategoryIdentifier> {
+
+    @EmbeddedId
+    @AttributeOverride(name = "id", column = @Column(name = "category_id"))
+    private final CategoryIdentifier id;
+
+    @Embedded
+    @AttributeOverride(name = "id", column = @Column(name = "account_id"))
+    private final AccountIdentifier account;
+
+    @AttributeOverride(name = "amount", column = @Column(name = "monthly_limit"))
+    @AttributeOverride(name = "currency", column = @Column(name = "currency"))
+    @CompositeType(AmountType.class)
+    private Amount monthlyLimit;
+
+    private final Instant creationTimestamp;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient boolean isNew = true;
+
+    public Budget(CategoryIdentifier category, AccountIdentifier account, Amount monthlyLimit) {
+        this.id = requireNonNull(category, "category cannot be null");
+        this.account = requireNonNull(account, "account cannot be null");
+        this.monthlyLimit = requireValidLimit(monthlyLimit);
+        this.creationTimestamp = Instant.now();
+    }
+
+    public void changeMonthlyLimit(Amount monthlyLimit) {
+        this.monthlyLimit = requireValidLimit(monthlyLimit);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private static Amount requireValidLimit(Amount monthlyLimit) {
+        requireNonNull(monthlyLimit, "monthlyLimit cannot be null");
+
+        if (!monthlyLimit.isPositive()) {
+            throw new IllegalArgumentException("monthlyLimit must be positive value");
+        }
+
+        return monthlyLimit;
+    }
+}
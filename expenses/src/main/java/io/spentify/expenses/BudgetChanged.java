@@ -0,0 +1,10 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+
+/**
+ * Published within the transaction setting or deleting a budget, listeners observe it once the transaction commits.
+ *
+ * @param category The category of the budget.
+ */
+public record BudgetChanged(CategoryIdentifier category) {}
@@ -0,0 +1,89 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+class BudgetService implements BudgetUseCase {
+
+    private static final Currency DEFAULT_CURRENCY = Currency.getInstance("EUR");
+
+    private final Budgets budgets;
+    private final Categories categories;
+    private final BudgetTracker tracker;
+    private final ApplicationEventPublisher events;
+    private final FailureCounter failures;
+
+    @Override
+    public Either<Failure, Budget> set(SetBudgetCommand cmd) {
+        var account = new AccountIdentifier(cmd.accountId);
+        var category = new CategoryIdentifier(cmd.categoryId);
+
+        if (!categories.findAccountById(category).map(account::equals).orElse(false)) {
+            return Either.left(failures.count("budget.set",
+                    Failure.ofNotFound("category id '%s' for account id '%s' not found".formatted(cmd.categoryId, cmd.accountId))));
+        }
+
+        var limit = Amount.of(cmd.monthlyLimit, cmd.currency == null ? DEFAULT_CURRENCY : Currency.getInstance(cmd.currency));
+        var budget = budgets.findById(category)
+                .map(existing -> {
+                    existing.changeMonthlyLimit(limit);
+                    return existing;
+                })
+                .orElseGet(() -> budgets.save(new Budget(category, account, limit)));
+
+        events.publishEvent(new BudgetChanged(category));
+        return Either.right(budget);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetStatus> findAll(UUID accountId, YearMonth month) {
+        requireNonNull(accountId, "accountId cannot be null");
+        requireNonNull(month, "month cannot be null");
+
+        return budgets.findAllByAccount(new AccountIdentifier(accountId)).stream()
+                .map(budget -> tracker.status(budget, month))
+                .toList();
+    }
+
+    @Override
+    public Either<Failure, Budget> delete(UUID accountId, UUID categoryId) {
+        requireNonNull(accountId, "accountId cannot be null");
+        requireNonNull(categoryId, "categoryId cannot be null");
+
+        var category = new CategoryIdentifier(categoryId);
+        var budget = budgets.findById(category).filter(b -> b.getAccount().equals(new AccountIdentifier(accountId)));
+        if (budget.isEmpty()) {
+            return Either.left(failures.count("budget.delete",
+                    Failure.ofNotFound("budget of category id '%s' for account id '%s' not found".formatted(categoryId, accountId))));
+        }
+
+        budgets.delete(budget.get());
+        events.publishEvent(new BudgetChanged(category));
+        return Either.right(budget.get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BudgetStatus> findExceeded(Expense expense) {
+        requireNonNull(expense, "expense cannot be null");
+
+        return tracker.status(expense.getAccount(), expense.getCategory(), YearMonth.from(expense.getExpenseDate()))
+                .filter(BudgetStatus::exceeded);
+    }
+}
@@ -0,0 +1,35 @@
+package io.spentify.expenses;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The spend of an account in a budgeted category over a month, against the budget limit.
+ *
+ * @param categoryId The category of the budget.
+ * @param month      The month.
+ * @param limit      The monthly limit of the budget.
+ * @param spent       The spend of the month converted to the currency of the limit.
+ * @param unconverted The spend of the month in the currencies without an exchange rate, not part of {@code spent}.
+ */
+public record BudgetStatus(UUID categoryId, YearMonth month, Amount limit, Amount spent, List<Amount> unconverted) {
+
+    public BudgetStatus {
+        unconverted = List.copyOf(unconverted);
+    }
+
+    /**
+     * @return Whether the converted spend alone is over the limit, the unconverted spend can only add to it.
+     */
+    public boolean exceeded() {
+        return spent.compareTo(limit) > 0;
+    }
+
+    /**
+     * @return Whether the whole spend was converted, so {@code spent} is the spend of the month and not a lower bound.
+     */
+    public boolean complete() {
+        return unconverted.isEmpty();
+    }
+}
@@ -0,0 +1,179 @@
+package io.spentify.expenses;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.spentify.expenses.Category.CategoryIdentifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the monthly spend of the budgeted categories in memory, so a budget is checked on every expense write without
+ * summing the expenses of the month.
+ * <p>
+ * The spend of an account, category and month is read once from its {@code monthly_category_spend} rows, then counted
+ * up with every expense created afterwards, in a {@link LongAdder} per currency: concurrent writes to the same budget
+ * add to striped cells and never lock. The rollup stays the source of truth, spends and budgets are read again from the
+ * database every {@code expenses.budget.reconcile-interval}, which bounds the drift from the expenses and budgets
+ * written by other instances.
+ * <p>
+ * Both are read on the checking thread outside the lock of the caches, see {@link CacheLoads}.
+ */
+@Component
+class BudgetTracker {
+
+    private final Budgets budgets;
+    private final Expenses expenses;
+    private final ExchangeRateStore exchangeRates;
+    private final AsyncCache<CategoryIdentifier, Optional<Budget>> budgetsByCategory;
+    private final AsyncCache<Key, MonthSpend> spends;
+
+    BudgetTracker(Budgets budgets,
+                  Expenses expenses,
+                  ExchangeRateStore exchangeRates,
+                  MeterRegistry meterRegistry,
+                  @Value("${expenses.budget.reconcile-interval}") Duration reconcileInterval,
+                  @Value("${expenses.budget.max-tracked}") long maxTracked) {
+        this.budgets = budgets;
+        this.expenses = expenses;
+        this.exchangeRates = exchangeRates;
+        this.budgetsByCategory = Caffeine.newBuilder()
+                .expireAfterWrite(reconcileInterval)
+                .maximumSize(maxTracked)
+                .recordStats()
+                .buildAsync();
+        this.spends = Caffeine.newBuilder()
+                .expireAfterWrite(reconcileInterval)
+                .maximumSize(maxTracked)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, budgetsByCategory, "budgets");
+        CaffeineCacheMetrics.monitor(meterRegistry, spends, "budget-spends");
+    }
+
+    /**
+     * Finds the status of the budget of the category over the month, if the account has one.
+     *
+     * @param account  The account identifier.
+     * @param category The category identifier.
+     * @param month    The month.
+     * @return The status of the budget, or empty if the category has no budget of the account.
+     */
+    Optional<BudgetStatus> status(AccountIdentifier account, CategoryIdentifier category, YearMonth month) {
+        return CacheLoads.get(budgetsByCategory, category, budgets::findById)
+                .filter(budget -> budget.getAccount().equals(account))
+                .map(budget -> status(budget, month));
+    }
+
+    /**
+     * Computes the status of the budget over the month. Spend in other currencies is converted to the currency of the
+     * limit at the rates effective on the last day of the month, spend without a rate is kept apart as unconverted.
+     *
+     * @param budget The budget.
+     * @param month  The month.
+     * @return The status of the budget.
+     */
+    BudgetStatus status(Budget budget, YearMonth month) {
+        var spend = CacheLoads.get(spends, new Key(budget.getAccount(), budget.getId(), month), this::load);
+        var limit = budget.getMonthlyLimit();
+        var rates = exchangeRates.current();
+        var spent = Amount.zero(limit.currency());
+        var unconverted = new ArrayList<Amount>();
+        for (var amount : spend.amounts()) {
+            var converted = rates.convert(amount, limit.currency(), month.atEndOfMonth());
+            if (converted.isPresent()) {
+                spent = spent.plus(converted.get());
+            } else {
+                unconverted.add(amount);
+            }
+        }
+        return new BudgetStatus(budget.getId().id(), month, limit, spent, unconverted);
+    }
+
+    private MonthSpend load(Key key) {
+        var spend = new MonthSpend(System.nanoTime());
+        expenses.findMonthlySpend(key.account(), key.month(), key.category())
+                .forEach(row -> spend.add(row.total()));
+        return spend.loaded(System.nanoTime());
+    }
+
+    /**
+     * Counts the created expenses in the tracked spends they fall in, if the load of the spend missed them. A spend
+     * whose load overlapped the commit is dropped, to be read again on the next check. A spend still loading is checked
+     * once loaded.
+     */
+    @TransactionalEventListener
+    void on(ExpensesCreated event) {
+        var committed = System.nanoTime();
+        for (var expense : event.expenses()) {
+            var key = new Key(expense.getAccount(), expense.getCategory(), YearMonth.from(expense.getExpenseDate()));
+            var future = spends.getIfPresent(key);
+            if (future != null) {
+                future.thenAccept(spend -> count(event, expense, key, future, spend, committed));
+            }
+        }
+    }
+
+    private void count(ExpensesCreated event, Expense expense, Key key, CompletableFuture<MonthSpend> future,
+                       MonthSpend spend, long committed) {
+        switch (event.visibilityTo(spend.loadStarted, spend.loadFinished, committed)) {
+            case MISSED -> spend.add(expense.getAmount());
+            case SEEN -> {
+            }
+            case UNKNOWN -> spends.asMap().remove(key, future);
+        }
+    }
+
+    @TransactionalEventListener
+    void on(StatementImported event) {
+        spends.synchronous().asMap().keySet().removeIf(key -> key.account().equals(event.account()));
+    }
+
+    @TransactionalEventListener
+    void on(BudgetChanged event) {
+        budgetsByCategory.synchronous().invalidate(event.category());
+    }
+
+    private record Key(AccountIdentifier account, CategoryIdentifier category, YearMonth month) {}
+
+    /**
+     * The spend of an account, category and month, in amount units per currency.
+     */
+    private static final class MonthSpend {
+
+        private final long loadStarted;
+        private long loadFinished;
+        private final ConcurrentHashMap<Currency, LongAdder> units = new ConcurrentHashMap<>(4);
+
+        MonthSpend(long loadStarted) {
+            this.loadStarted = loadStarted;
+        }
+
+        MonthSpend loaded(long loadFinished) {
+            this.loadFinished = loadFinished;
+            return this;
+        }
+
+        void add(Amount amount) {
+            units.computeIfAbsent(amount.currency(), currency -> new LongAdder()).add(amount.units());
+        }
+
+        List<Amount> amounts() {
+            var amounts = new ArrayList<Amount>(units.size());
+            units.forEach((currency, sum) -> amounts.add(new Amount(sum.sum(), currency)));
+            return amounts;
+        }
+    }
+}
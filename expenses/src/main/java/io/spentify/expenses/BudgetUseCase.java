@@ -0,0 +1,84 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Amount.CheckCurrency;
+import io.vavr.control.Either;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The {@link BudgetUseCase} interface represents a use case for managing the monthly category budgets of an account.
+ */
+public interface BudgetUseCase {
+
+    /**
+     * Sets the monthly limit of the category, creating its budget or replacing the limit of the existing one.
+     *
+     * @param cmd The command containing the category and the limit.
+     * @return The {@link Budget}, or a not found failure if category id and account id not found.
+     */
+    Either<Failure, Budget> set(SetBudgetCommand cmd);
+
+    /**
+     * Finds the budgets of the account with their spend over the month. The spend of every budget is tracked in memory
+     * by the {@link BudgetTracker}, so the cost depends on the number of budgets, never on the number of expenses.
+     *
+     * @param accountId The account identifier.
+     * @param month     The month.
+     * @return The {@link BudgetStatus} of every budget of the account.
+     */
+    List<BudgetStatus> findAll(UUID accountId, YearMonth month);
+
+    /**
+     * Deletes the budget of the category.
+     *
+     * @param accountId  The account identifier.
+     * @param categoryId The category identifier.
+     * @return The deleted {@link Budget}, or a not found failure if the account has no budget for the category.
+     */
+    Either<Failure, Budget> delete(UUID accountId, UUID categoryId);
+
+    /**
+     * Checks the budget of the expense category over the expense month, once the expense is created.
+     *
+     * @param expense The created expense.
+     * @return The {@link BudgetStatus} if the spend of the month is over the budget limit, empty otherwise.
+     */
+    Optional<BudgetStatus> findExceeded(Expense expense);
+
+    @Builder
+    class SetBudgetCommand extends SelfValidating<SetBudgetCommand> {
+
+        @NotNull(message = "accountId cannot be null")
+        public final UUID accountId;
+
+        @NotNull(message = "categoryId cannot be null")
+        public final UUID categoryId;
+
+        @NotNull(message = "monthlyLimit cannot be null")
+        @Positive(message = "monthlyLimit must be greater than 0")
+        @Digits(integer = 15, fraction = Amount.SCALE, message = "monthlyLimit can have up to 15 integer and 4 fraction digits")
+        public final BigDecimal monthlyLimit;
+
+        /**
+         * The ISO 4217 code of the limit currency, EUR if absent.
+         */
+        @CheckCurrency(message = "currency must be an ISO 4217 currency code")
+        public final String currency;
+
+        public SetBudgetCommand(UUID accountId, UUID categoryId, BigDecimal monthlyLimit, String currency) {
+            this.accountId = accountId;
+            this.categoryId = categoryId;
+            this.monthlyLimit = monthlyLimit;
+            this.currency = currency;
+            this.validateSelf();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * The {@link Budgets} interface serves as a repository for managing {@link Budget} entities.
+ */
+@Repository
+public interface Budgets extends JpaRepository<Budget, CategoryIdentifier> {
+
+    @Query("""
+            SELECT b
+            FROM Budget b
+            WHERE b.account = :account
+            """)
+    List<Budget> findAllByAccount(AccountIdentifier account);
+
+}
@@ -0,0 +1,22 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Repository fragment for set-based {@link Category} writes, bypassing the per-entity persistence context.
+ */
+public interface BulkCategories {
+
+    /**
+     * Inserts the given categories using multi-row statements, skipping every category whose name already exists
+     * for its account ({@code unique_category_name_account_id_idx}).
+     *
+     * @param categories The new categories to be inserted.
+     * @return The identifiers of the categories actually inserted.
+     */
+    Set<CategoryIdentifier> insertAllIgnoringConflicts(Collection<Category> categories);
+
+}
@@ -0,0 +1,54 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+@RequiredArgsConstructor
+class BulkCategoriesImpl implements BulkCategories {
+
+    /**
+     * Keeps every statement well below the 65535 bind parameters limit of the PostgreSQL protocol.
+     */
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT = "INSERT INTO expense_category (id, account_id, name, creation_timestamp) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?)";
+    private static final String ON_CONFLICT = " ON CONFLICT (account_id, name) DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<CategoryIdentifier> insertAllIgnoringConflicts(Collection<Category> categories) {
+        requireNonNull(categories, "categories cannot be null");
+
+        var inserted = new HashSet<CategoryIdentifier>();
+        var rows = new ArrayList<>(categories);
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            var chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            inserted.addAll(insert(chunk));
+        }
+
+        return inserted;
+    }
+
+    private List<CategoryIdentifier> insert(List<Category> chunk) {
+        var sql = INSERT + String.join(", ", Collections.nCopies(chunk.size(), ROW)) + ON_CONFLICT;
+        var args = new Object[chunk.size() * 4];
+
+        int i = 0;
+        for (var category : chunk) {
+            args[i++] = category.getId().id();
+            args[i++] = category.getAccount().id();
+            args[i++] = category.getName();
+            args[i++] = Timestamp.from(category.getCreationTimestamp());
+        }
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new CategoryIdentifier(rs.getObject("id", UUID.class)), args);
+    }
+}
@@ -0,0 +1,42 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import io.spentify.expenses.ImportStatementUseCase.StatementImport;
+
+import java.io.Reader;
+import java.util.Collection;
+
+/**
+ * Repository fragment for set-based {@link Expense} writes, bypassing the per-entity persistence context.
+ */
+public interface BulkExpenses {
+
+    /**
+     * Inserts the given new expenses using JDBC batches.
+     *
+     * @param expenses The new expenses to be inserted.
+     */
+    void insertAll(Collection<Expense> expenses);
+
+    /**
+     * Inserts the new expense, provided its category belongs to its account, and adds it to the monthly spend rollup,
+     * with a single statement.
+     *
+     * @param expense The new expense to be inserted.
+     * @return {@code true} if inserted, {@code false} if the category does not exist or belongs to another account.
+     */
+    boolean insertIfCategoryOwned(Expense expense);
+
+    /**
+     * Copies the CSV rows into a transaction scoped staging table and inserts the valid ones as expenses of the
+     * account with a single statement. Must be called within a transaction.
+     *
+     * @param account  The account owning the expenses.
+     * @param category The category of the rows without a category.
+     * @param columns  The layout of the rows.
+     * @param rows     The CSV rows, without the header line.
+     * @return The number of copied and imported rows.
+     */
+    StatementImport importStatement(AccountIdentifier account, CategoryIdentifier category, StatementColumns columns, Reader rows);
+
+}
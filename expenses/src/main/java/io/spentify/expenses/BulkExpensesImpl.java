@@ -0,0 +1,180 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import io.spentify.expenses.ImportStatementUseCase.StatementImport;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.spentify.expenses.StatementColumns.ABSENT;
+import static java.util.Objects.requireNonNull;
+
+@RequiredArgsConstructor
+class BulkExpensesImpl implements BulkExpenses {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String DEFAULT_CURRENCY = "EUR";
+
+    /**
+     * The ISO 4217 codes a statement currency may take, the ones {@link Amount.CheckCurrency} accepts: matched as is, so a
+     * lower-case code is rejected as it is by the API.
+     */
+    private static final String CURRENCIES = Currency.getAvailableCurrencies().stream()
+            .map(Currency::getCurrencyCode)
+            .sorted()
+            .collect(Collectors.joining(","));
+
+    private static final String INSERT = """
+            INSERT INTO expenses (id, account_id, creation_timestamp, payment_type, amount, currency, expense_date, description, category_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * Inserts the expense only if its category belongs to its account, and adds it to the monthly spend rollup by the
+     * same statement, see {@link MonthlySpends}. The expense is inserted if the count is one.
+     */
+    private static final String INSERT_IF_CATEGORY_OWNED = """
+            WITH inserted AS (
+                INSERT INTO expenses (id, account_id, creation_timestamp, payment_type, amount, currency, expense_date, description, category_id)
+                SELECT ?::UUID, ?::UUID, ?::TIMESTAMP, ?, ?::NUMERIC(19, 4), ?, ?::DATE, ?, ?::UUID
+                WHERE EXISTS (SELECT 1 FROM expense_category WHERE id = ? AND account_id = ?)
+                RETURNING account_id, expense_date, category_id, currency, amount),
+            rolled_up AS (
+                INSERT INTO monthly_category_spend AS m (account_id, month, category_id, currency, total, count)
+                SELECT account_id, date_trunc('month', expense_date)::DATE, category_id, currency, amount, 1
+                FROM inserted
+                ON CONFLICT (account_id, month, category_id, currency)
+                    DO UPDATE SET total = m.total + EXCLUDED.total, count = m.count + EXCLUDED.count)
+            SELECT count(*)
+            FROM inserted
+            """;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMPORARY TABLE expense_statement_staging (%s) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY expense_statement_staging FROM STDIN WITH (FORMAT csv)
+            """;
+
+    /**
+     * Casts the staged text columns, invalid values become NULL instead of failing the statement, and keeps the rows
+     * with a positive amount, a date, a known payment type, a known currency, EUR if absent, and a category of the
+     * account. The inserted rows are added to the monthly spend rollup by the same statement, see {@link MonthlySpends}.
+     */
+    private static final String INSERT_STAGED = """
+            WITH inserted AS (
+                INSERT INTO expenses (account_id, payment_type, amount, currency, expense_date, description, category_id)
+                SELECT c.account_id, s.payment_type, s.amount, s.currency, s.expense_date, s.description, c.id
+                FROM (SELECT CASE WHEN pg_input_is_valid(%1$s, 'numeric(19, 4)') THEN %1$s::NUMERIC(19, 4) END            AS amount,
+                             CASE WHEN pg_input_is_valid(%2$s, 'date') THEN %2$s::DATE END                           AS expense_date,
+                             %3$s                                                                                    AS description,
+                             CASE lower(coalesce(%4$s, 'card')) WHEN 'cash' THEN 'CASH' WHEN 'card' THEN 'CARD' END AS payment_type,
+                             CASE WHEN %5$s IS NULL THEN ?::UUID
+                                  WHEN pg_input_is_valid(%5$s, 'uuid') THEN %5$s::UUID END                           AS category_id,
+                             CASE WHEN %6$s IS NULL THEN ?
+                                  WHEN %6$s = ANY (string_to_array(?, ',')) THEN %6$s END                            AS currency
+                      FROM expense_statement_staging) s
+                         JOIN expense_category c ON c.id = s.category_id AND c.account_id = ?
+                WHERE s.amount > 0
+                  AND s.expense_date IS NOT NULL
+                  AND s.payment_type IS NOT NULL
+                  AND s.currency IS NOT NULL
+                RETURNING account_id, expense_date, category_id, currency, amount),
+            rolled_up AS (
+                INSERT INTO monthly_category_spend AS m (account_id, month, category_id, currency, total, count)
+                SELECT account_id, date_trunc('month', expense_date)::DATE, category_id, currency, sum(amount), count(*)
+                FROM inserted
+                GROUP BY 1, 2, 3, 4
+                ORDER BY 1, 2, 3, 4
+                ON CONFLICT (account_id, month, category_id, currency)
+                    DO UPDATE SET total = m.total + EXCLUDED.total, count = m.count + EXCLUDED.count)
+            SELECT count(*)
+            FROM inserted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Collection<Expense> expenses) {
+        requireNonNull(expenses, "expenses cannot be null");
+
+        jdbcTemplate.batchUpdate(INSERT, expenses, BATCH_SIZE, (ps, expense) -> {
+            ps.setObject(1, expense.getId().id());
+            ps.setObject(2, expense.getAccount().id());
+            ps.setTimestamp(3, Timestamp.from(expense.getCreationTimestamp()));
+            ps.setString(4, expense.getPaymentType().name());
+            ps.setBigDecimal(5, expense.getAmountNumber());
+            ps.setString(6, expense.getCurrencyCode());
+            ps.setDate(7, Date.valueOf(expense.getExpenseDate()));
+            ps.setString(8, expense.getDescription());
+            ps.setObject(9, expense.getCategory().id());
+        });
+    }
+
+    @Override
+    public boolean insertIfCategoryOwned(Expense expense) {
+        requireNonNull(expense, "expense cannot be null");
+
+        var inserted = jdbcTemplate.queryForObject(INSERT_IF_CATEGORY_OWNED, Long.class,
+                expense.getId().id(),
+                expense.getAccount().id(),
+                Timestamp.from(expense.getCreationTimestamp()),
+                expense.getPaymentType().name(),
+                expense.getAmountNumber(),
+                expense.getCurrencyCode(),
+                Date.valueOf(expense.getExpenseDate()),
+                expense.getDescription(),
+                expense.getCategory().id(),
+                expense.getCategory().id(),
+                expense.getAccount().id());
+        return inserted == 1;
+    }
+
+    @Override
+    public StatementImport importStatement(AccountIdentifier account, CategoryIdentifier category, StatementColumns columns, Reader rows) {
+        requireNonNull(account, "account cannot be null");
+        requireNonNull(category, "category cannot be null");
+        requireNonNull(columns, "columns cannot be null");
+        requireNonNull(rows, "rows cannot be null");
+
+        jdbcTemplate.execute(CREATE_STAGING.formatted(IntStream.rangeClosed(1, columns.count())
+                .mapToObj(i -> "c" + i + " TEXT")
+                .collect(Collectors.joining(", "))));
+
+        var copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        var imported = jdbcTemplate.queryForObject(INSERT_STAGED.formatted(
+                        column(columns.amount()),
+                        column(columns.date()),
+                        column(columns.description()),
+                        column(columns.paymentType()),
+                        column(columns.category()),
+                        column(columns.currency())),
+                Long.class, category.id(), DEFAULT_CURRENCY, CURRENCIES, account.id());
+
+        return new StatementImport(copied, imported);
+    }
+
+    private static String column(int position) {
+        return position == ABSENT ? "NULL::TEXT" : "NULLIF(TRIM(c" + position + "), '')";
+    }
+}
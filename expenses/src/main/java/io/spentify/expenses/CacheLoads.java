@@ -0,0 +1,59 @@
+package io.spentify.expenses;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Loads the missing entries of an {@link AsyncCache} on the calling thread, outside the lock of the cache.
+ * <p>
+ * {@code Cache.get(key, loader)} runs the loader within the {@code compute} of the backing map, which holds the lock of
+ * the bin the key falls in for the whole database read: other keys of the bin wait, and a virtual thread pins its
+ * carrier. Here a pending future is put in the cache first, so concurrent callers of the same key wait on it instead of
+ * reading again, then completed with the value read by the caller that put it.
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class CacheLoads {
+
+    /**
+     * Returns the value of the key, loading it on the calling thread if the cache has none.
+     *
+     * @param cache  The cache.
+     * @param key    The key.
+     * @param loader Reads the value of the key, called at most once per missing key at a time.
+     * @return The value of the key.
+     */
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        var present = cache.getIfPresent(key);
+        if (present != null) {
+            return join(present);
+        }
+        var loading = new CompletableFuture<V>();
+        var prior = cache.asMap().putIfAbsent(key, loading);
+        if (prior != null) {
+            return join(prior);
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
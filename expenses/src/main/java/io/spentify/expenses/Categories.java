@@ -1,12 +1,24 @@
 package io.spentify.expenses;
 
 import io.spentify.expenses.Category.CategoryIdentifier;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface Categories extends JpaRepository<Category, CategoryIdentifier> {
+public interface Categories extends JpaRepository<Category, CategoryIdentifier>, BulkCategories {
+
+    /**
+     * Bounded in-process cache of category id to owning account id, configured by {@code spring.cache.caffeine.spec}.
+     * The owner of a category never changes, so entries only need to be evicted when a category is written or removed,
+     * by key for a single category and entirely for any bulk write or removal.
+     */
+    String OWNERS_CACHE = "category-owners";
 
     @Query("""
             SELECT COUNT (c.id) = 1
@@ -15,11 +27,67 @@ public interface Categories extends JpaRepository<Category, CategoryIdentifier>
             """)
     boolean existsByAccountAndName(AccountIdentifier account, String name);
 
+    /**
+     * Finds the account owning the category, looked up lazily and served from {@link #OWNERS_CACHE} afterwards.
+     * Unknown categories are not cached and always reach the database.
+     *
+     * @param id The category identifier.
+     * @return The owning account, or empty if the category does not exist.
+     */
+    @Cacheable(cacheNames = OWNERS_CACHE, unless = "#result == null")
     @Query("""
-            SELECT COUNT (c.id) = 1
+            SELECT c.account
             FROM Category c
-            WHERE c.id = :id AND c.account = :account
+            WHERE c.id = :id
             """)
-    boolean existsByIdAndAccount(CategoryIdentifier id, AccountIdentifier account);
+    Optional<AccountIdentifier> findAccountById(CategoryIdentifier id);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, key = "#p0.id")
+    <S extends Category> S save(S category);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, key = "#p0.id")
+    void delete(Category category);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, key = "#p0.id")
+    <S extends Category> S saveAndFlush(S category);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, key = "#p0")
+    void deleteById(CategoryIdentifier id);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    <S extends Category> List<S> saveAll(Iterable<S> categories);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    <S extends Category> List<S> saveAllAndFlush(Iterable<S> categories);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    void deleteAll();
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    void deleteAll(Iterable<? extends Category> categories);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    void deleteAllById(Iterable<? extends CategoryIdentifier> ids);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    void deleteAllInBatch();
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    void deleteAllInBatch(Iterable<Category> categories);
+
+    @Override
+    @CacheEvict(cacheNames = OWNERS_CACHE, allEntries = true)
+    void deleteAllByIdInBatch(Iterable<CategoryIdentifier> ids);
 
 }
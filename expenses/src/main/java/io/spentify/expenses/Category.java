@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 import java.io.Serializable;
 import java.time.Instant;
@@ -15,12 +16,18 @@ import static lombok.AccessLevel.PRIVATE;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.length;
 
+/**
+ * The {@link Category} class represents an expense category owned by an account.
+ * <p>
+ * The identifier is assigned on construction, the entity reports itself as {@link Persistable#isNew() new}
+ * until it is persisted or loaded, so saving it results in a single INSERT.
+ */
 @Entity
 @Table(name = "expense_category")
 @Getter
 @ToString
 @NoArgsConstructor(access = PRIVATE, force = true)
-public final class Category {
+public final class Category implements Persistable<Category.CategoryIdentifier> {
 
     static final int MAX_LENGTH = 100;
 
@@ -34,13 +41,27 @@ public final class Category {
     private final Instant creationTimestamp;
     private String name;
 
+    @ToString.Exclude
+    private transient boolean isNew = true;
+
     public Category(String name, AccountIdentifier account) {
-        this.id = new CategoryIdentifier(UUID.randomUUID());
+        this.id = new CategoryIdentifier(Identifiers.next());
         this.creationTimestamp = Instant.now();
         this.account = requireNonNull(account, "account cannot be null");
         this.name = requireValidName(name);
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     private String requireValidName(String name) {
         if (isBlank(name)) {
             throw new IllegalArgumentException("name cannot be blank");
@@ -2,6 +2,9 @@ package io.spentify.expenses;
 
 import io.vavr.control.Either;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -20,4 +23,26 @@ public interface CategoryService {
      */
     Either<Failure, Category> add(UUID accountId, String name);
 
+    /**
+     * Adds all categories with the specified names for the given account at once, validating every name upfront and
+     * inserting the valid ones in a single statement; names already present for the account are skipped.
+     *
+     * @param accountId The unique identifier of the account to which the categories will be added.
+     * @param names     The names of the categories to be added.
+     * @return The outcome of the operation for each name, in the order of the provided names.
+     * - If successful, returns a {@link Category} instance.
+     * - If a failure occurs, returns a {@link Failure} instance.
+     */
+    List<Either<Failure, Category>> addAll(UUID accountId, Collection<String> names);
+
+    /**
+     * Adds all categories with the specified names for each of the given accounts within a single transaction,
+     * see {@link #addAll(UUID, Collection)}.
+     *
+     * @param accountIds The unique identifiers of the accounts to which the categories will be added.
+     * @param names      The names of the categories to be added for every account.
+     * @return The outcomes of the operation per account id, each in the order of the provided names.
+     */
+    Map<UUID, List<Either<Failure, Category>>> addAll(Collection<UUID> accountIds, Collection<String> names);
+
 }
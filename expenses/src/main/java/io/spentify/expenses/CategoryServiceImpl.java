@@ -1,5 +1,6 @@
 package io.spentify.expenses;
 
+import io.micrometer.core.annotation.Timed;
 import io.spentify.expenses.Failure.FieldViolation;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
@@ -10,12 +11,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.*;
 
 import static io.vavr.API.Invalid;
 import static io.vavr.API.Valid;
 import static java.text.MessageFormat.format;
 import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Service
@@ -25,23 +27,81 @@ class CategoryServiceImpl implements CategoryService {
 
     private final FieldValidator validator = new FieldValidator();
     private final Categories categories;
+    private final FailureCounter failures;
 
     @Override
+    @Timed(value = "categories.add", description = "Time to add a category")
     public Either<Failure, Category> add(UUID accountId, String name) {
         var validation = validator.validate(accountId, name);
 
         if (validation.isInvalid()) {
-            return Either.left(Failure.ofValidation("Schema validation failure", validation.getError().asJava()));
+            return Either.left(failures.count("category.add",
+                    Failure.ofValidation("Schema validation failure", validation.getError().asJava())));
         }
 
         if (categories.existsByAccountAndName(new AccountIdentifier(accountId), name)) {
-            return Either.left(Failure.ofConflict("Category '%s' for account '%s' already exists".formatted(name, accountId)));
+            return Either.left(failures.count("category.add", conflict(accountId, name)));
         }
 
         var category = categories.save(new Category(name, new AccountIdentifier(accountId)));
         return Either.right(category);
     }
 
+    @Override
+    public List<Either<Failure, Category>> addAll(UUID accountId, Collection<String> names) {
+        return addAll(Collections.singletonList(accountId), names).get(accountId);
+    }
+
+    @Override
+    public Map<UUID, List<Either<Failure, Category>>> addAll(Collection<UUID> accountIds, Collection<String> names) {
+        requireNonNull(accountIds, "accountIds cannot be null");
+        requireNonNull(names, "names cannot be null");
+
+        var outcomes = new LinkedHashMap<UUID, List<Either<Failure, Category>>>();
+        var candidates = new ArrayList<Category>();
+
+        for (var accountId : new LinkedHashSet<>(accountIds)) {
+            var accountOutcomes = new ArrayList<Either<Failure, Category>>(names.size());
+            var accountNames = new HashSet<String>();
+
+            for (var name : names) {
+                var validation = validator.validate(accountId, name);
+                if (validation.isInvalid()) {
+                    accountOutcomes.add(Either.left(failures.count("category.add-all",
+                            Failure.ofValidation("Schema validation failure", validation.getError().asJava()))));
+                } else if (!accountNames.add(name)) {
+                    accountOutcomes.add(Either.left(failures.count("category.add-all", conflict(accountId, name))));
+                } else {
+                    var category = new Category(name, new AccountIdentifier(accountId));
+                    candidates.add(category);
+                    accountOutcomes.add(Either.right(category));
+                }
+            }
+
+            outcomes.put(accountId, accountOutcomes);
+        }
+
+        if (candidates.isEmpty()) {
+            return outcomes;
+        }
+
+        var inserted = categories.insertAllIgnoringConflicts(candidates);
+        candidates.stream()
+                .filter(category -> inserted.contains(category.getId()))
+                .forEach(Category::markNotNew);
+
+        outcomes.replaceAll((accountId, accountOutcomes) -> accountOutcomes.stream()
+                .map(outcome -> outcome.filterOrElse(category -> inserted.contains(category.getId()),
+                        category -> failures.count("category.add-all", conflict(accountId, category.getName()))))
+                .toList());
+
+        return outcomes;
+    }
+
+    private static Failure conflict(UUID accountId, String name) {
+        return Failure.ofConflict("Category '%s' for account '%s' already exists".formatted(name, accountId));
+    }
+
     /**
      * Schema input validator
      */
@@ -1,41 +1,85 @@
 package io.spentify.expenses;
 
+import io.micrometer.core.annotation.Timed;
 import io.spentify.expenses.Category.CategoryIdentifier;
+import io.vavr.control.Either;
 import lombok.RequiredArgsConstructor;
-import org.javamoney.moneta.Money;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 class CreateExpenseService implements CreateExpenseUseCase {
 
+    private static final Currency DEFAULT_CURRENCY = Currency.getInstance("EUR");
+
     private final Expenses expenses;
     private final Categories categories;
+    private final ApplicationEventPublisher events;
+    private final FailureCounter failures;
 
     @Override
+    @Timed(value = "expenses.create", description = "Time to create an expense")
     public Expense create(CreateExpenseCommand cmd) {
-        requireCategoryAccountExists(cmd.categoryId, cmd.accountId);
+        var expense = newExpense(cmd);
+
+        if (!expenses.insertIfCategoryOwned(expense)) {
+            throw failures.count("expense.create", new CategoryAccountNotFound(categoryAccountNotFound(cmd.categoryId, cmd.accountId)));
+        }
+        expense.markNotNew();
+        events.publishEvent(new ExpensesCreated(List.of(expense), System.nanoTime()));
+        return expense;
+    }
+
+    @Override
+    public List<Either<Failure, Expense>> createAll(List<CreateExpenseCommand> cmds) {
+        requireNonNull(cmds, "cmds cannot be null");
+
+        var owners = new HashMap<UUID, Optional<AccountIdentifier>>();
+        var outcomes = new ArrayList<Either<Failure, Expense>>(cmds.size());
+        var created = new ArrayList<Expense>(cmds.size());
+
+        for (var cmd : cmds) {
+            var owner = owners.computeIfAbsent(cmd.categoryId, id -> categories.findAccountById(new CategoryIdentifier(id)));
+            if (!owner.map(new AccountIdentifier(cmd.accountId)::equals).orElse(false)) {
+                outcomes.add(Either.left(failures.count("expense.create-all",
+                        Failure.ofNotFound(categoryAccountNotFound(cmd.categoryId, cmd.accountId)))));
+                continue;
+            }
 
-        var expense = Expense.builder()
+            var expense = newExpense(cmd);
+            created.add(expense);
+            outcomes.add(Either.right(expense));
+        }
+
+        if (!created.isEmpty()) {
+            expenses.insertAll(created);
+            expenses.addToMonthlySpend(created);
+            events.publishEvent(new ExpensesCreated(List.copyOf(created), System.nanoTime()));
+            created.forEach(Expense::markNotNew);
+        }
+
+        return outcomes;
+    }
+
+    private static Expense newExpense(CreateExpenseCommand cmd) {
+        return Expense.builder()
                 .account(new AccountIdentifier(cmd.accountId))
                 .paymentType(Payment.Type.fromValue(cmd.paymentType))
-                .amount(Money.of(cmd.amount, "EUR"))
+                .amount(Amount.of(cmd.amount, cmd.currency == null ? DEFAULT_CURRENCY : Currency.getInstance(cmd.currency)))
                 .expenseDate(cmd.expenseDate)
                 .description(cmd.description)
-                .category(categories.getReferenceById(new CategoryIdentifier(cmd.categoryId)))
+                .category(new CategoryIdentifier(cmd.categoryId))
                 .build();
-
-        expenses.save(expense);
-        return expense;
     }
 
-    private void requireCategoryAccountExists(UUID categoryId, UUID accountId) {
-        if (!categories.existsByIdAndAccount(new CategoryIdentifier(categoryId), new AccountIdentifier(accountId))) {
-            throw new CategoryAccountNotFound("category id '%s' for account id '%s' not found".formatted(categoryId, accountId));
-        }
+    private static String categoryAccountNotFound(UUID categoryId, UUID accountId) {
+        return "category id '%s' for account id '%s' not found".formatted(categoryId, accountId);
     }
 }
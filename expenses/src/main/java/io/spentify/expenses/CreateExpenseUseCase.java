@@ -1,12 +1,16 @@
 package io.spentify.expenses;
 
+import io.spentify.expenses.Amount.CheckCurrency;
 import io.spentify.expenses.Payment.CheckPaymentType;
+import io.vavr.control.Either;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -23,6 +27,16 @@ public interface CreateExpenseUseCase {
 
     Expense create(CreateExpenseCommand cmd);
 
+    /**
+     * Creates all expenses based on the provided commands within a single transaction, the category ownership is
+     * checked once per distinct category id.
+     *
+     * @param cmds The commands containing information for creating the expenses.
+     * @return The outcomes in the order of the commands, the created {@link Expense} or a not found failure if
+     * category id and account id not found.
+     */
+    List<Either<Failure, Expense>> createAll(List<CreateExpenseCommand> cmds);
+
     @Builder
     class CreateExpenseCommand extends SelfValidating<CreateExpenseCommand> {
 
@@ -34,8 +48,15 @@ public interface CreateExpenseUseCase {
 
         @NotNull(message = "amount cannot be null")
         @Positive(message = "amount must be greater than 0")
+        @Digits(integer = 15, fraction = Amount.SCALE, message = "amount can have up to 15 integer and 4 fraction digits")
         public final BigDecimal amount;
 
+        /**
+         * The ISO 4217 code of the amount currency, EUR if absent.
+         */
+        @CheckCurrency(message = "currency must be an ISO 4217 currency code")
+        public final String currency;
+
         @CheckPaymentType(message = "paymentType can be: 'cash', 'card'")
         public final String paymentType;
 
@@ -47,12 +68,14 @@ public interface CreateExpenseUseCase {
         public CreateExpenseCommand(UUID accountId,
                                     UUID categoryId,
                                     BigDecimal amount,
+                                    String currency,
                                     String paymentType,
                                     LocalDate expenseDate,
                                     String description) {
             this.accountId = accountId;
             this.categoryId = categoryId;
             this.amount = amount;
+            this.currency = currency;
             this.paymentType = paymentType;
             this.expenseDate = expenseDate;
             this.description = description;
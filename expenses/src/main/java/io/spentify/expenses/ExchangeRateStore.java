@@ -0,0 +1,54 @@
+package io.spentify.expenses;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link ExchangeRates} snapshot, reloaded from the {@code exchange_rate} table on a fixed delay.
+ * <p>
+ * A reload builds a whole new snapshot and publishes it with a single reference swap, readers never lock and always
+ * see one consistent version of the rates. A failed reload keeps the previous snapshot.
+ */
+@Slf4j
+@Component
+class ExchangeRateStore {
+
+    private static final String SELECT_RATES = """
+            SELECT currency, effective_date, rate
+            FROM exchange_rate
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Currency reference;
+    private final AtomicReference<ExchangeRates> current;
+
+    ExchangeRateStore(JdbcTemplate jdbcTemplate, @Value("${expenses.fx.reference-currency}") Currency reference) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reference = reference;
+        this.current = new AtomicReference<>(ExchangeRates.empty(reference));
+    }
+
+    ExchangeRates current() {
+        return current.get();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${expenses.fx.refresh-interval-ms}")
+    void refresh() {
+        var rates = ExchangeRates.builder(reference);
+        jdbcTemplate.query(SELECT_RATES, rs -> {
+            rates.rate(Currency.getInstance(rs.getString("currency")),
+                    rs.getObject("effective_date", LocalDate.class),
+                    rs.getBigDecimal("rate"));
+        });
+
+        current.set(rates.build());
+        log.debug("Exchange rates reloaded");
+    }
+}
@@ -0,0 +1,140 @@
+package io.spentify.expenses;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable snapshot of the exchange rates, every rate quoted as units of a currency per unit of the reference
+ * currency and versioned by the date it is effective from.
+ * <p>
+ * A snapshot is never modified once built, it is shared by any number of readers without locking and replaced as a
+ * whole when the rates change, see {@link ExchangeRateStore}. A rate lookup is a binary search over the effective
+ * dates of the two currencies.
+ */
+public final class ExchangeRates {
+
+    private final Currency reference;
+    private final Map<Currency, Series> series;
+
+    private ExchangeRates(Currency reference, Map<Currency, Series> series) {
+        this.reference = requireNonNull(reference, "reference cannot be null");
+        this.series = Map.copyOf(series);
+    }
+
+    public static ExchangeRates empty(Currency reference) {
+        return new ExchangeRates(reference, Map.of());
+    }
+
+    public static Builder builder(Currency reference) {
+        return new Builder(reference);
+    }
+
+    public Currency reference() {
+        return reference;
+    }
+
+    /**
+     * @return The number of {@code to} units per {@code from} unit effective on the date, empty if either currency has
+     * no rate effective on the date.
+     */
+    public Optional<BigDecimal> rate(Currency from, Currency to, LocalDate date) {
+        requireNonNull(from, "from cannot be null");
+        requireNonNull(to, "to cannot be null");
+        requireNonNull(date, "date cannot be null");
+
+        if (from == to) {
+            return Optional.of(BigDecimal.ONE);
+        }
+
+        var fromRate = referenceRate(from, date);
+        var toRate = referenceRate(to, date);
+        if (fromRate == null || toRate == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toRate.divide(fromRate, MathContext.DECIMAL64));
+    }
+
+    /**
+     * @return The amount converted to the currency at the rate effective on the date, empty if there is no such rate.
+     */
+    public Optional<Amount> convert(Amount amount, Currency to, LocalDate date) {
+        requireNonNull(amount, "amount cannot be null");
+
+        if (amount.currency() == to) {
+            return Optional.of(amount);
+        }
+        return rate(amount.currency(), to, date).map(rate -> amount.convert(rate, to));
+    }
+
+    private BigDecimal referenceRate(Currency currency, LocalDate date) {
+        if (currency == reference) {
+            return BigDecimal.ONE;
+        }
+
+        var rates = series.get(currency);
+        return rates == null ? null : rates.at(date);
+    }
+
+    /**
+     * The rates of a currency, sorted by the epoch day they are effective from.
+     */
+    private record Series(long[] days, BigDecimal[] rates) {
+
+        BigDecimal at(LocalDate date) {
+            var index = Arrays.binarySearch(days, date.toEpochDay());
+            if (index < 0) {
+                // the insertion point follows the last rate effective before the date
+                index = -index - 2;
+            }
+            return index < 0 ? null : rates[index];
+        }
+    }
+
+    /**
+     * Collects the rates of a new snapshot, a later rate of the same currency and date replaces the earlier one.
+     */
+    public static final class Builder {
+
+        private final Currency reference;
+        private final Map<Currency, Map<LocalDate, BigDecimal>> rates = new HashMap<>();
+
+        private Builder(Currency reference) {
+            this.reference = requireNonNull(reference, "reference cannot be null");
+        }
+
+        public Builder rate(Currency currency, LocalDate effectiveDate, BigDecimal rate) {
+            requireNonNull(currency, "currency cannot be null");
+            requireNonNull(effectiveDate, "effectiveDate cannot be null");
+            requireNonNull(rate, "rate cannot be null");
+            if (rate.signum() <= 0) {
+                throw new IllegalArgumentException("rate must be positive value");
+            }
+
+            rates.computeIfAbsent(currency, c -> new HashMap<>()).put(effectiveDate, rate);
+            return this;
+        }
+
+        public ExchangeRates build() {
+            var series = new HashMap<Currency, Series>();
+            rates.forEach((currency, byDate) -> {
+                var dates = byDate.keySet().stream().sorted().toList();
+                var days = new long[dates.size()];
+                var values = new BigDecimal[dates.size()];
+                for (var i = 0; i < dates.size(); i++) {
+                    days[i] = dates.get(i).toEpochDay();
+                    values[i] = byDate.get(dates.get(i));
+                }
+                series.put(currency, new Series(days, values));
+            });
+            return new ExchangeRates(reference, series);
+        }
+    }
+}
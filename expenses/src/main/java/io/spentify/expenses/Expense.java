@@ -1,12 +1,11 @@
 package io.spentify.expenses;
 
-import io.hypersistence.utils.hibernate.type.money.MonetaryAmountType;
+import io.spentify.expenses.Category.CategoryIdentifier;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CompositeType;
-import org.javamoney.moneta.Money;
+import org.springframework.data.domain.Persistable;
 
-import javax.money.MonetaryAmount;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -19,15 +18,17 @@ import static lombok.AccessLevel.PRIVATE;
 /**
  * The {@link Expense} class represents an expense aggregate.
  * It is mapped to the "expenses" table in the database.
+ * <p>
+ * The identifier is assigned on construction, the aggregate reports itself as {@link Persistable#isNew() new}
+ * until it is persisted or loaded, so saving it results in a single INSERT.
  */
-
 @Entity
 @Table(name = "expenses")
 @Getter
 @ToString
 @EqualsAndHashCode
 @NoArgsConstructor(access = PRIVATE, force = true)
-public class Expense {
+public class Expense implements Persistable<Expense.ExpenseIdentifier> {
 
     @EmbeddedId
     private final ExpenseIdentifier id;
@@ -39,8 +40,8 @@ public class Expense {
 
     @AttributeOverride(name = "amount", column = @Column(name = "amount"))
     @AttributeOverride(name = "currency", column = @Column(name = "currency"))
-    @CompositeType(MonetaryAmountType.class)
-    private MonetaryAmount amount;
+    @CompositeType(AmountType.class)
+    private Amount amount;
 
     @Enumerated(EnumType.STRING)
     private Payment.Type paymentType;
@@ -48,17 +49,21 @@ public class Expense {
     private LocalDate expenseDate;
     private String description;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    private Category category;
+    @Embedded
+    @AttributeOverride(name = "id", column = @Column(name = "category_id"))
+    private CategoryIdentifier category;
+
+    @ToString.Exclude
+    private transient boolean isNew = true;
 
     @Builder
     public Expense(AccountIdentifier account,
-                   MonetaryAmount amount,
+                   Amount amount,
                    Payment.Type paymentType,
                    LocalDate expenseDate,
                    String description,
-                   Category category) {
-        this.id = new ExpenseIdentifier(UUID.randomUUID());
+                   CategoryIdentifier category) {
+        this.id = new ExpenseIdentifier(Identifiers.next());
         this.creationTimestamp = Instant.now();
         this.account = requireNonNull(account, "account cannot be null");
         this.amount = requireValidAmount(amount);
@@ -68,10 +73,21 @@ public class Expense {
         this.description = description;
     }
 
-    private MonetaryAmount requireValidAmount(MonetaryAmount amount) {
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private Amount requireValidAmount(Amount amount) {
         requireNonNull(amount, "amount cannot be null");
 
-        if (amount.isLessThanOrEqualTo(Money.of(BigDecimal.ZERO, amount.getCurrency()))) {
+        if (!amount.isPositive()) {
             throw new IllegalArgumentException("amount must be positive value");
         }
 
@@ -79,11 +95,11 @@ public class Expense {
     }
 
     public BigDecimal getAmountNumber() {
-        return amount.getNumber().numberValue(BigDecimal.class);
+        return amount.toBigDecimal();
     }
 
     public String getCurrencyCode() {
-        return amount.getCurrency().getCurrencyCode();
+        return amount.currency().getCurrencyCode();
     }
 
     @Embeddable
@@ -0,0 +1,113 @@
+package io.spentify.expenses;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Holds the expenses of the recently analyzed accounts in memory as {@link AccountColumns}, so the dashboard
+ * aggregations of an account do not reach the database once its expenses are loaded.
+ * <p>
+ * The expenses of an account are loaded on its first aggregation, then kept up to date with the expenses created
+ * afterwards. Once the columns of all accounts outgrow {@code expenses.analytics.memory-budget}, the accounts least
+ * recently and frequently used are evicted. An account is loaded on the aggregating thread outside the lock of the
+ * cache, see {@link CacheLoads}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "expenses.analytics.enabled", havingValue = "true")
+class ExpenseColumnStore {
+
+    private static final String SELECT_ACCOUNT = """
+            SELECT category_id, payment_type, amount, currency, expense_date
+            FROM expenses
+            WHERE account_id = ?
+            ORDER BY expense_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AsyncCache<AccountIdentifier, AccountColumns> accounts;
+
+    ExpenseColumnStore(JdbcTemplate jdbcTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${expenses.analytics.memory-budget}") DataSize memoryBudget) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accounts = Caffeine.newBuilder()
+                .maximumWeight(memoryBudget.toBytes())
+                .weigher((AccountIdentifier account, AccountColumns columns) -> columns.weight())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "expense-columns");
+    }
+
+    List<SpendGroup> aggregate(SpendQuery query) {
+        var columns = CacheLoads.get(accounts, new AccountIdentifier(query.accountId), this::load);
+        return columns.aggregate(query.from, query.to, query.categoryId, query.payment(), query.grouping());
+    }
+
+    private AccountColumns load(AccountIdentifier account) {
+        var columns = new AccountColumns(System.nanoTime());
+        jdbcTemplate.query(SELECT_ACCOUNT, (RowCallbackHandler) rs -> columns.add(
+                rs.getObject("expense_date", LocalDate.class),
+                Amount.parse(rs.getString("amount"), Currency.getInstance(rs.getString("currency"))),
+                rs.getObject("category_id", UUID.class),
+                Payment.Type.valueOf(rs.getString("payment_type"))), account.id());
+        log.debug("Loaded {} expenses of account {}", columns.size(), account);
+        return columns.loaded(System.nanoTime());
+    }
+
+    /**
+     * Appends the created expenses to the columns of their accounts, if loaded and the load missed them. The columns
+     * of a load overlapping the commit are evicted, to be loaded again on the next aggregation. Columns still loading
+     * are checked once loaded.
+     */
+    @TransactionalEventListener
+    void on(ExpensesCreated event) {
+        var committed = System.nanoTime();
+        event.expenses().stream()
+                .collect(groupingBy(Expense::getAccount))
+                .forEach((account, expenses) -> {
+                    var future = accounts.getIfPresent(account);
+                    if (future != null) {
+                        future.thenAccept(columns -> append(event, account, expenses, future, columns, committed));
+                    }
+                });
+    }
+
+    private void append(ExpensesCreated event, AccountIdentifier account, List<Expense> expenses,
+                        CompletableFuture<AccountColumns> future, AccountColumns columns, long committed) {
+        switch (event.visibilityTo(columns.loadStarted(), columns.loadFinished(), committed)) {
+            case MISSED -> {
+                expenses.forEach(columns::add);
+                // weighs the grown columns again
+                accounts.asMap().replace(account, future, future);
+            }
+            case SEEN -> {
+            }
+            case UNKNOWN -> accounts.asMap().remove(account, future);
+        }
+    }
+
+    @TransactionalEventListener
+    void on(StatementImported event) {
+        accounts.synchronous().invalidate(event.account());
+    }
+}
@@ -0,0 +1,50 @@
+package io.spentify.expenses;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The position of the last expense of a page in the {@code (expense_date, id)} descending order, the next page starts
+ * right after it. It is exchanged with clients as an opaque URL-safe token.
+ *
+ * @param expenseDate The expense date of the last expense of the page.
+ * @param id          The identifier of the last expense of the page.
+ */
+public record ExpenseCursor(LocalDate expenseDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public ExpenseCursor {
+        requireNonNull(expenseDate, "expenseDate cannot be null");
+        requireNonNull(id, "id cannot be null");
+    }
+
+    public static ExpenseCursor after(ExpenseView expense) {
+        return new ExpenseCursor(expense.expenseDate(), expense.id());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException If the token is malformed.
+     */
+    public static ExpenseCursor decode(String token) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+            return new ExpenseCursor(LocalDate.parse(value.substring(0, separator)), UUID.fromString(value.substring(separator + 1)));
+        } catch (IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor '" + token + "'", e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((expenseDate.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package io.spentify.expenses;
+
+/**
+ * An expense matching a search, with the rank it is ordered by.
+ *
+ * @param expense The matching expense.
+ * @param rank    The relevance of the match, higher first.
+ */
+public record ExpenseMatch(ExpenseView expense, float rank) {}
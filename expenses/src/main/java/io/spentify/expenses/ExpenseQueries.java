@@ -0,0 +1,54 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.ListExpensesUseCase.ListExpensesQuery;
+import io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository fragment for {@link Expense} reads served by projections, bypassing the persistence context.
+ */
+public interface ExpenseQueries {
+
+    /**
+     * Finds at most {@code limit} expenses of the account matching the query filters, newest first, starting right
+     * after the query cursor if any.
+     *
+     * @param query The query holding the account, the filters and the cursor.
+     * @param limit The maximum number of expenses returned.
+     * @return The expenses ordered by expense date and id, descending.
+     */
+    List<ExpenseView> findPage(ListExpensesQuery query, int limit);
+
+    /**
+     * Finds at most {@code limit} expenses of the account whose description matches the words of the query, or
+     * contains it, most relevant first, starting right after the query cursor if any.
+     *
+     * @param query The query holding the account, the search text and the cursor.
+     * @param limit The maximum number of matches returned.
+     * @return The matches ordered by rank, expense date and id, descending.
+     */
+    List<ExpenseMatch> search(SearchExpensesQuery query, int limit);
+
+    /**
+     * Aggregates the expenses of the account matching the query filters per category or per month, and currency.
+     *
+     * @param query The query holding the account, the filters and the grouping.
+     * @return The groups with at least one expense, in no particular order.
+     */
+    List<SpendGroup> aggregate(SpendQuery query);
+
+    /**
+     * Streams every expense of the account to the consumer, newest first, through a server-side cursor fetching
+     * {@code fetchSize} rows at a time, so memory use does not depend on the number of expenses. Must be called within
+     * a transaction, the cursor is only kept open by one.
+     *
+     * @param account   The account identifier.
+     * @param fetchSize The number of rows fetched per round trip.
+     * @param consumer  The consumer of every expense, called in order.
+     */
+    void streamAll(AccountIdentifier account, int fetchSize, Consumer<ExpenseView> consumer);
+
+}
@@ -0,0 +1,191 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.ListExpensesUseCase.ListExpensesQuery;
+import io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery;
+import io.spentify.expenses.SpendAnalyticsUseCase.Grouping;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+@RequiredArgsConstructor
+class ExpenseQueriesImpl implements ExpenseQueries {
+
+    private static final RowMapper<ExpenseView> EXPENSE_VIEW = (rs, rowNum) -> new ExpenseView(
+            rs.getObject("id", UUID.class),
+            rs.getObject("account_id", UUID.class),
+            rs.getObject("category_id", UUID.class),
+            rs.getTimestamp("creation_timestamp").toInstant(),
+            Amount.parse(rs.getString("amount"), Currency.getInstance(rs.getString("currency"))),
+            Payment.Type.valueOf(rs.getString("payment_type")),
+            rs.getObject("expense_date", LocalDate.class),
+            rs.getString("description"));
+
+    private static final String SELECT_ACCOUNT = """
+            SELECT id, account_id, category_id, creation_timestamp, amount, currency, payment_type, expense_date, description
+            FROM expenses
+            WHERE account_id = ?
+            ORDER BY expense_date DESC, id DESC
+            """;
+
+    private static final String SEARCH = """
+            SELECT *
+            FROM (SELECT id, account_id, category_id, creation_timestamp, amount, currency, payment_type, expense_date, description,
+                         ts_rank(description_search, query) + similarity(description, :q) AS rank
+                  FROM expenses, websearch_to_tsquery('simple', :q) query
+                  WHERE account_id = :accountId
+                    AND (description_search @@ query %s)) matches
+            %s
+            ORDER BY rank DESC, expense_date DESC, id DESC
+            LIMIT :limit
+            """;
+
+    /**
+     * The shortest query matched as a substring, shorter ones have no trigram to look up in the index.
+     */
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Only the filters present are added to the statement, and the cursor is a row comparison on the index columns,
+     * so every page is a single range scan of the {@code (account_id, expense_date DESC, id DESC)} index.
+     */
+    @Override
+    public List<ExpenseView> findPage(ListExpensesQuery query, int limit) {
+        requireNonNull(query, "query cannot be null");
+
+        var sql = new StringBuilder("""
+                SELECT id, account_id, category_id, creation_timestamp, amount, currency, payment_type, expense_date, description
+                FROM expenses
+                WHERE account_id = :accountId
+                """);
+        var params = new MapSqlParameterSource("accountId", query.accountId)
+                .addValue("limit", limit);
+
+        if (query.from != null) {
+            sql.append("AND expense_date >= :from\n");
+            params.addValue("from", query.from);
+        }
+        if (query.to != null) {
+            sql.append("AND expense_date <= :to\n");
+            params.addValue("to", query.to);
+        }
+        if (query.categoryId != null) {
+            sql.append("AND category_id = :categoryId\n");
+            params.addValue("categoryId", query.categoryId);
+        }
+        if (query.paymentType != null) {
+            sql.append("AND payment_type = :paymentType\n");
+            params.addValue("paymentType", Payment.Type.fromValue(query.paymentType).name());
+        }
+        if (query.cursor != null) {
+            sql.append("AND (expense_date, id) < (:cursorDate, :cursorId)\n");
+            params.addValue("cursorDate", query.cursor.expenseDate())
+                    .addValue("cursorId", query.cursor.id());
+        }
+        sql.append("ORDER BY expense_date DESC, id DESC\nLIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, EXPENSE_VIEW);
+    }
+
+    /**
+     * Words are matched through the {@code description_search} tsvector, substrings through the trigram index, both
+     * scoped to the account by their {@code account_id} key. The rank adds the word rank to the trigram similarity, so
+     * whole word matches come first.
+     */
+    @Override
+    public List<ExpenseMatch> search(SearchExpensesQuery query, int limit) {
+        requireNonNull(query, "query cannot be null");
+
+        var q = query.q.strip();
+        var params = new MapSqlParameterSource("accountId", query.accountId)
+                .addValue("q", q)
+                .addValue("limit", limit);
+
+        var substring = "";
+        if (q.length() >= MIN_SUBSTRING_LENGTH) {
+            substring = "OR description ILIKE :pattern";
+            params.addValue("pattern", "%" + escapeLike(q) + "%");
+        }
+        var after = "";
+        if (query.cursor != null) {
+            after = "WHERE (rank, expense_date, id) < (:cursorRank, :cursorDate, :cursorId)";
+            params.addValue("cursorRank", query.cursor.rank())
+                    .addValue("cursorDate", query.cursor.expenseDate())
+                    .addValue("cursorId", query.cursor.id());
+        }
+
+        return jdbcTemplate.query(SEARCH.formatted(substring, after), params,
+                (rs, rowNum) -> new ExpenseMatch(EXPENSE_VIEW.mapRow(rs, rowNum), rs.getFloat("rank")));
+    }
+
+    /**
+     * Filtered like {@link #findPage}, the groups are summed over every matching expense of the account.
+     */
+    @Override
+    public List<SpendGroup> aggregate(SpendQuery query) {
+        requireNonNull(query, "query cannot be null");
+
+        var grouping = query.grouping();
+        var sql = new StringBuilder(grouping == Grouping.CATEGORY
+                ? "SELECT category_id, currency, sum(amount) AS total, count(*) AS count\n"
+                : "SELECT date_trunc('month', expense_date)::DATE AS month, currency, sum(amount) AS total, count(*) AS count\n");
+        sql.append("FROM expenses\nWHERE account_id = :accountId\n");
+        var params = new MapSqlParameterSource("accountId", query.accountId);
+
+        if (query.from != null) {
+            sql.append("AND expense_date >= :from\n");
+            params.addValue("from", query.from);
+        }
+        if (query.to != null) {
+            sql.append("AND expense_date <= :to\n");
+            params.addValue("to", query.to);
+        }
+        if (query.categoryId != null) {
+            sql.append("AND category_id = :categoryId\n");
+            params.addValue("categoryId", query.categoryId);
+        }
+        if (query.paymentType != null) {
+            sql.append("AND payment_type = :paymentType\n");
+            params.addValue("paymentType", query.payment().name());
+        }
+        sql.append("GROUP BY 1, 2");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new SpendGroup(
+                grouping == Grouping.CATEGORY ? rs.getObject("category_id", UUID.class) : null,
+                grouping == Grouping.MONTH ? YearMonth.from(rs.getObject("month", LocalDate.class)) : null,
+                Amount.parse(rs.getString("total"), Currency.getInstance(rs.getString("currency"))),
+                rs.getLong("count")));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public void streamAll(AccountIdentifier account, int fetchSize, Consumer<ExpenseView> consumer) {
+        requireNonNull(account, "account cannot be null");
+        requireNonNull(consumer, "consumer cannot be null");
+
+        // pgjdbc only fetches through a cursor for a forward-only statement with a fetch size outside auto-commit
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            var ps = connection.prepareStatement(SELECT_ACCOUNT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setObject(1, account.id());
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(EXPENSE_VIEW.mapRow(rs, rs.getRow())));
+    }
+}
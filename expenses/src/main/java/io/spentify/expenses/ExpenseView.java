@@ -0,0 +1,17 @@
+package io.spentify.expenses;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A read-only projection of an {@link Expense}, read straight from the expenses table without building the aggregate.
+ */
+public record ExpenseView(UUID id,
+                          UUID accountId,
+                          UUID categoryId,
+                          Instant creationTimestamp,
+                          Amount amount,
+                          Payment.Type paymentType,
+                          LocalDate expenseDate,
+                          String description) {}
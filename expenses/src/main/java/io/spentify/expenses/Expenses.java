@@ -9,5 +9,5 @@ import static io.spentify.expenses.Expense.ExpenseIdentifier;
  * The {@link Expenses} interface serves as a repository for managing {@link Expense} entities
  */
 @Repository
-public interface Expenses extends JpaRepository<Expense, ExpenseIdentifier> {
+public interface Expenses extends JpaRepository<Expense, ExpenseIdentifier>, BulkExpenses, ExpenseQueries, MonthlySpends {
 }
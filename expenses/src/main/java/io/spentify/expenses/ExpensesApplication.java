@@ -2,12 +2,19 @@ package io.spentify.expenses;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableCaching
+@EnableScheduling
 public class ExpensesApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ExpensesApplication.class, args);
+		var context = SpringApplication.run(ExpensesApplication.class, args);
+		if (context.getEnvironment().matchesProfiles(MonthlySpendBackfill.PROFILE)) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
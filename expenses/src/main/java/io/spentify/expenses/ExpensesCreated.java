@@ -0,0 +1,32 @@
+package io.spentify.expenses;
+
+import java.util.List;
+
+/**
+ * Published within the transaction creating the expenses, listeners observe it once the transaction commits.
+ *
+ * @param expenses       The created expenses.
+ * @param publishedNanos The {@link System#nanoTime()} of the publication, taken before the transaction commits.
+ */
+public record ExpensesCreated(List<Expense> expenses, long publishedNanos) {
+
+    /**
+     * Tells whether a read of the committed expenses, running from {@code readStarted} to {@code readFinished}, saw
+     * the created expenses. A read finished before the publication cannot have, one started after the commit did.
+     *
+     * @param readStarted    The {@link System#nanoTime()} before the read.
+     * @param readFinished   The {@link System#nanoTime()} after the read.
+     * @param committedNanos The {@link System#nanoTime()} once the transaction committed.
+     * @return The {@link Visibility} of the created expenses to the read.
+     */
+    Visibility visibilityTo(long readStarted, long readFinished, long committedNanos) {
+        if (readFinished - publishedNanos < 0) {
+            return Visibility.MISSED;
+        }
+        return readStarted - committedNanos > 0 ? Visibility.SEEN : Visibility.UNKNOWN;
+    }
+
+    enum Visibility {
+        MISSED, SEEN, UNKNOWN
+    }
+}
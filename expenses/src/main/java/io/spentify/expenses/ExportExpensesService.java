@@ -0,0 +1,29 @@
+package io.spentify.expenses;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+class ExportExpensesService implements ExportExpensesUseCase {
+
+    private final Expenses expenses;
+
+    @Value("${expenses.export.fetch-size}")
+    private int fetchSize;
+
+    @Override
+    public void export(UUID accountId, Consumer<ExpenseView> consumer) {
+        requireNonNull(accountId, "accountId cannot be null");
+
+        expenses.streamAll(new AccountIdentifier(accountId), fetchSize, consumer);
+    }
+}
@@ -0,0 +1,21 @@
+package io.spentify.expenses;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * The {@link ExportExpensesUseCase} interface represents a use case for exporting every expense of an account.
+ */
+public interface ExportExpensesUseCase {
+
+    /**
+     * Streams every expense of the account to the consumer, newest first, within a read-only transaction. The
+     * expenses are fetched in pages of {@code expenses.export.fetch-size} rows, so memory use stays flat whatever the
+     * size of the account history.
+     *
+     * @param accountId The account identifier.
+     * @param consumer  The consumer of every expense, called in order.
+     */
+    void export(UUID accountId, Consumer<ExpenseView> consumer);
+
+}
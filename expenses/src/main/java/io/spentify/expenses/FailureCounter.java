@@ -0,0 +1,52 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the failures of the use cases as {@code expenses.failures}, tagged by the operation and the failure type, the
+ * {@link Failure} subtype returned or the exception thrown, such as {@link CategoryAccountNotFound}.
+ */
+@Component
+@RequiredArgsConstructor
+class FailureCounter {
+
+    static final String NAME = "expenses.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Counts the failure of the operation.
+     *
+     * @param operation The operation failed, e.g. {@code expense.create}.
+     * @param failure   The failure.
+     * @return The failure.
+     */
+    Failure count(String operation, Failure failure) {
+        increment(operation, failure.getClass());
+        return failure;
+    }
+
+    /**
+     * Counts the exception the operation fails with.
+     *
+     * @param operation The operation failed, e.g. {@code expense.create}.
+     * @param exception The exception, to be thrown.
+     * @return The exception.
+     */
+    <E extends RuntimeException> E count(String operation, E exception) {
+        increment(operation, exception.getClass());
+        return exception;
+    }
+
+    private void increment(String operation, Class<?> type) {
+        Counter.builder(NAME)
+                .description("Use case failures")
+                .tag("operation", operation)
+                .tag("type", type.getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,26 @@
+package io.spentify.expenses;
+
+import java.util.UUID;
+
+/**
+ * Generates the identifiers of new aggregates, see {@link Identifiers}.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    /**
+     * Generates time-ordered version 7 UUIDs, monotonic within the process.
+     */
+    static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator(System::currentTimeMillis);
+    }
+
+    /**
+     * Generates random version 4 UUIDs from the shared {@link java.security.SecureRandom}.
+     */
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -0,0 +1,151 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import io.spentify.expenses.Failure.FieldViolation;
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.spentify.expenses.StatementColumns.ABSENT;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+class ImportStatementService implements ImportStatementUseCase {
+
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * The SQLState of a COPY refusing rows that do not match the staging columns, bad_copy_file_format.
+     */
+    private static final String BAD_COPY_FILE_FORMAT = "22P04";
+
+    private final Expenses expenses;
+    private final Categories categories;
+    private final ApplicationEventPublisher events;
+    private final FailureCounter failures;
+
+    @Override
+    public Either<Failure, StatementImport> importStatement(ImportStatementCommand cmd) {
+        var account = new AccountIdentifier(cmd.accountId);
+        var category = new CategoryIdentifier(cmd.categoryId);
+
+        if (!categories.findAccountById(category).map(account::equals).orElse(false)) {
+            return Either.left(failures.count("statement.import",
+                    Failure.ofNotFound("category id '%s' for account id '%s' not found".formatted(cmd.categoryId, cmd.accountId))));
+        }
+
+        var statement = new BufferedReader(cmd.statement);
+        var header = readHeader(statement);
+        var violations = new ArrayList<FieldViolation>();
+
+        var columns = columns(header, cmd, violations);
+        if (!violations.isEmpty()) {
+            return Either.left(failures.count("statement.import", Failure.ofValidation("Statement header validation failure", violations)));
+        }
+
+        try {
+            var imported = expenses.importStatement(account, category, columns, statement);
+            events.publishEvent(new StatementImported(account));
+            return Either.right(imported);
+        } catch (DataIntegrityViolationException e) {
+            if (!isBadCopyFileFormat(e)) {
+                throw e;
+            }
+            // the rows do not match the header, nothing is imported
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Either.left(failures.count("statement.import", Failure.ofValidation("Statement validation failure",
+                    List.of(new FieldViolation("statement", e.getMostSpecificCause().getMessage(), null)))));
+        }
+    }
+
+    /**
+     * Whether the rows were refused for not matching the header. Any other data or constraint error, such as a numeric
+     * overflow of the monthly spend rollup, is not a fault of the statement and propagates.
+     */
+    private static boolean isBadCopyFileFormat(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql && BAD_COPY_FILE_FORMAT.equals(sql.getSQLState());
+    }
+
+    private static StatementColumns columns(List<String> header, ImportStatementCommand cmd, List<FieldViolation> violations) {
+        var date = requiredPosition(header, "dateColumn", cmd.dateColumn, violations);
+        var amount = requiredPosition(header, "amountColumn", cmd.amountColumn, violations);
+        if (!violations.isEmpty()) {
+            return null;
+        }
+
+        return new StatementColumns(header.size(), date, amount,
+                position(header, cmd.descriptionColumn),
+                position(header, cmd.paymentTypeColumn),
+                position(header, cmd.categoryColumn),
+                position(header, cmd.currencyColumn));
+    }
+
+    private static int requiredPosition(List<String> header, String field, String column, List<FieldViolation> violations) {
+        var position = position(header, column);
+        if (position == ABSENT) {
+            violations.add(new FieldViolation(field, "column not found in statement header", column));
+        }
+        return position;
+    }
+
+    private static int position(List<String> header, String column) {
+        if (column == null) {
+            return ABSENT;
+        }
+
+        for (var i = 0; i < header.size(); i++) {
+            if (header.get(i).equalsIgnoreCase(column.trim())) {
+                return i + 1;
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Reads the column names from the first line of the statement, leaving the reader at the first data row.
+     */
+    private static List<String> readHeader(BufferedReader statement) {
+        String line;
+        try {
+            line = statement.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var names = new ArrayList<String>();
+        if (line == null) {
+            return names;
+        }
+
+        var name = new StringBuilder();
+        var quoted = false;
+        for (var i = line.startsWith(String.valueOf(BOM)) ? 1 : 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (c == '"' && quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                name.append(c);
+                i++;
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                names.add(name.toString().trim());
+                name.setLength(0);
+            } else {
+                name.append(c);
+            }
+        }
+        names.add(name.toString().trim());
+        return names;
+    }
+}
@@ -0,0 +1,92 @@
+package io.spentify.expenses;
+
+import io.vavr.control.Either;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.io.Reader;
+import java.util.UUID;
+
+/**
+ * The {@link ImportStatementUseCase} interface represents a use case for importing the expenses of a bank statement.
+ */
+public interface ImportStatementUseCase {
+
+    /**
+     * Imports every row of the CSV bank statement as an expense of the account, in a single pass.
+     * <p>
+     * The rows are streamed into a staging table through the PostgreSQL COPY protocol and inserted with one set-based
+     * statement. Rows with an invalid date, a non-positive amount, an unknown payment type or a category not owned by
+     * the account are rejected and only counted.
+     *
+     * @param cmd The command containing the statement and its column mapping.
+     * @return The {@link StatementImport} summary, a not found failure if category id and account id not found,
+     * or a validation failure if the statement header or content is malformed.
+     */
+    Either<Failure, StatementImport> importStatement(ImportStatementCommand cmd);
+
+    /**
+     * The outcome of a statement import.
+     *
+     * @param rows     The number of data rows of the statement.
+     * @param imported The number of rows imported as expenses.
+     */
+    record StatementImport(long rows, long imported) {
+
+        public long rejected() {
+            return rows - imported;
+        }
+    }
+
+    @Builder
+    class ImportStatementCommand extends SelfValidating<ImportStatementCommand> {
+
+        @NotNull(message = "accountId cannot be null")
+        public final UUID accountId;
+
+        /**
+         * The category of the rows without a category column value.
+         */
+        @NotNull(message = "categoryId cannot be null")
+        public final UUID categoryId;
+
+        @NotNull(message = "statement cannot be null")
+        public final Reader statement;
+
+        @NotBlank(message = "dateColumn cannot be blank")
+        public final String dateColumn;
+
+        @NotBlank(message = "amountColumn cannot be blank")
+        public final String amountColumn;
+
+        public final String descriptionColumn;
+
+        public final String paymentTypeColumn;
+
+        public final String categoryColumn;
+
+        public final String currencyColumn;
+
+        public ImportStatementCommand(UUID accountId,
+                                      UUID categoryId,
+                                      Reader statement,
+                                      String dateColumn,
+                                      String amountColumn,
+                                      String descriptionColumn,
+                                      String paymentTypeColumn,
+                                      String categoryColumn,
+                                      String currencyColumn) {
+            this.accountId = accountId;
+            this.categoryId = categoryId;
+            this.statement = statement;
+            this.dateColumn = dateColumn;
+            this.amountColumn = amountColumn;
+            this.descriptionColumn = descriptionColumn;
+            this.paymentTypeColumn = paymentTypeColumn;
+            this.categoryColumn = categoryColumn;
+            this.currencyColumn = currencyColumn;
+            this.validateSelf();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.spentify.expenses;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+class ListExpensesService implements ListExpensesUseCase {
+
+    private final Expenses expenses;
+
+    @Override
+    public ExpensePage list(ListExpensesQuery query) {
+        // one extra row tells whether a next page exists without a COUNT
+        var expenses = this.expenses.findPage(query, query.limit + 1);
+        if (expenses.size() <= query.limit) {
+            return new ExpensePage(expenses, null);
+        }
+
+        var page = expenses.subList(0, query.limit);
+        return new ExpensePage(page, ExpenseCursor.after(page.get(query.limit - 1)));
+    }
+}
@@ -0,0 +1,75 @@
+package io.spentify.expenses;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@link ListExpensesUseCase} interface represents a use case for listing the expenses of an account.
+ */
+public interface ListExpensesUseCase {
+
+    /**
+     * Lists a page of the account expenses matching the query filters, newest first.
+     * <p>
+     * Pages are addressed by keyset: a page starts right after the {@link ExpenseCursor} of the previous one, so the
+     * cost of a page does not depend on how deep it is in the account history.
+     *
+     * @param query The query holding the account, the filters, the page size and the cursor.
+     * @return The {@link ExpensePage} with the expenses and the cursor of the next page, if any.
+     */
+    ExpensePage list(ListExpensesQuery query);
+
+    /**
+     * A page of expenses.
+     *
+     * @param expenses The expenses of the page, newest first.
+     * @param next     The cursor of the next page, or {@code null} if this is the last page.
+     */
+    record ExpensePage(List<ExpenseView> expenses, ExpenseCursor next) {}
+
+    @Builder
+    class ListExpensesQuery extends SelfValidating<ListExpensesQuery> {
+
+        @NotNull(message = "accountId cannot be null")
+        public final UUID accountId;
+
+        public final LocalDate from;
+
+        public final LocalDate to;
+
+        public final UUID categoryId;
+
+        @Pattern(regexp = "(?i)cash|card", message = "paymentType can be: 'cash', 'card'")
+        public final String paymentType;
+
+        @Min(value = 1, message = "limit must be at least 1")
+        @Max(value = 100, message = "limit must be at most 100")
+        public final int limit;
+
+        public final ExpenseCursor cursor;
+
+        public ListExpensesQuery(UUID accountId,
+                                 LocalDate from,
+                                 LocalDate to,
+                                 UUID categoryId,
+                                 String paymentType,
+                                 int limit,
+                                 ExpenseCursor cursor) {
+            this.accountId = accountId;
+            this.from = from;
+            this.to = to;
+            this.categoryId = categoryId;
+            this.paymentType = paymentType;
+            this.limit = limit;
+            this.cursor = cursor;
+            this.validateSelf();
+        }
+    }
+}
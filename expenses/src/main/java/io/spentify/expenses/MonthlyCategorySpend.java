@@ -0,0 +1,12 @@
+package io.spentify.expenses;
+
+import java.util.UUID;
+
+/**
+ * The spend of an account in a category over a month, read from the {@code monthly_category_spend} rollup.
+ *
+ * @param categoryId The category of the expenses.
+ * @param total      The sum of the expense amounts.
+ * @param count      The number of expenses.
+ */
+public record MonthlyCategorySpend(UUID categoryId, Amount total, long count) {}
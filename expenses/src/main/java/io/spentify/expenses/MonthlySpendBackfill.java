@@ -0,0 +1,85 @@
+package io.spentify.expenses;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds the {@code monthly_category_spend} rollup from the existing expenses, run as a one-off job with the
+ * {@value #PROFILE} profile: the web server and the Kafka listeners are off and the application exits once done.
+ * Expenses written by the serving instances wait for the range being rebuilt, see {@link MonthlySpends}.
+ * <p>
+ * The account id space is split into equal ranges, each rebuilt in its own transaction, and up to
+ * {@code expenses.rollup.backfill.parallelism} ranges are rebuilt at once. Every range replaces its rollup rows, so the
+ * job can be re-run safely.
+ */
+@Slf4j
+@Component
+@Profile(MonthlySpendBackfill.PROFILE)
+@RequiredArgsConstructor
+class MonthlySpendBackfill implements ApplicationRunner {
+
+    static final String PROFILE = "backfill";
+
+    private final Expenses expenses;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${expenses.rollup.backfill.chunks}")
+    private int chunks;
+
+    @Value("${expenses.rollup.backfill.parallelism}")
+    private int parallelism;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException, ExecutionException {
+        var bounds = bounds(chunks);
+        var start = System.nanoTime();
+
+        var rows = 0L;
+        try (var executor = Executors.newFixedThreadPool(parallelism)) {
+            var rebuilds = new ArrayList<Future<Integer>>(chunks);
+            for (var i = 0; i < bounds.size(); i++) {
+                var from = bounds.get(i);
+                var to = i + 1 < bounds.size() ? bounds.get(i + 1) : null;
+                rebuilds.add(executor.submit(() -> transactionTemplate.execute(status -> expenses.rebuildMonthlySpend(from, to))));
+            }
+
+            for (var rebuild : rebuilds) {
+                rows += rebuild.get();
+            }
+        }
+
+        log.info("Monthly spend rollup backfilled, chunks={} parallelism={} rows={} elapsed={}ms",
+                chunks, parallelism, rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Splits the account id space into {@code chunks} ranges of equal width, returning the lowest id of each range.
+     * Ids are compared as unsigned bytes by PostgreSQL, so the bounds are spread over the unsigned most significant bits.
+     */
+    static List<UUID> bounds(int chunks) {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("chunks must be at least 1");
+        }
+
+        var space = BigInteger.ONE.shiftLeft(Long.SIZE);
+        var bounds = new ArrayList<UUID>(chunks);
+        for (var i = 0; i < chunks; i++) {
+            bounds.add(new UUID(space.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(chunks)).longValue(), 0));
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,56 @@
+package io.spentify.expenses;
+
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+class MonthlySpendService implements MonthlySpendUseCase {
+
+    private final Expenses expenses;
+    private final ExchangeRateStore exchangeRates;
+    private final FailureCounter failures;
+
+    @Override
+    public List<MonthlyCategorySpend> summarize(UUID accountId, YearMonth month) {
+        requireNonNull(accountId, "accountId cannot be null");
+        requireNonNull(month, "month cannot be null");
+
+        return expenses.findMonthlySpend(new AccountIdentifier(accountId), month);
+    }
+
+    @Override
+    public Either<Failure, List<MonthlyCategorySpend>> summarize(UUID accountId, YearMonth month, Currency currency) {
+        requireNonNull(currency, "currency cannot be null");
+
+        var rates = exchangeRates.current();
+        var date = month.atEndOfMonth();
+        var categories = new LinkedHashMap<UUID, MonthlyCategorySpend>();
+        for (var spend : summarize(accountId, month)) {
+            var total = rates.convert(spend.total(), currency, date);
+            if (total.isEmpty()) {
+                return Either.left(failures.count("spend.summarize", Failure.ofNotFound("exchange rate from '%s' to '%s' on %s not found"
+                        .formatted(spend.total().currency(), currency, date))));
+            }
+
+            categories.merge(spend.categoryId(), new MonthlyCategorySpend(spend.categoryId(), total.get(), spend.count()),
+                    (a, b) -> new MonthlyCategorySpend(a.categoryId(), a.total().plus(b.total()), a.count() + b.count()));
+        }
+
+        return Either.right(categories.values().stream()
+                .sorted(Comparator.comparing(MonthlyCategorySpend::total).reversed())
+                .toList());
+    }
+}
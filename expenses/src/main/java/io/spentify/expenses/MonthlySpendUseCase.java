@@ -0,0 +1,38 @@
+package io.spentify.expenses;
+
+import io.vavr.control.Either;
+
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@link MonthlySpendUseCase} interface represents a use case for summarizing the spend of an account.
+ */
+public interface MonthlySpendUseCase {
+
+    /**
+     * Summarizes the spend of the account per category over the month, read from the rollup maintained with every
+     * expense insert. The cost depends on the number of categories, never on the number of expenses.
+     *
+     * @param accountId The account identifier.
+     * @param month     The month.
+     * @return The spend of every category with expenses in the month, highest total first.
+     */
+    List<MonthlyCategorySpend> summarize(UUID accountId, YearMonth month);
+
+    /**
+     * Summarizes the spend of the account per category over the month in a single currency. Every category and
+     * currency total of the rollup is converted once, at the exchange rate effective on the last day of the month, so
+     * the cost still depends on the number of categories and currencies, never on the number of expenses.
+     *
+     * @param accountId The account identifier.
+     * @param month     The month.
+     * @param currency  The currency to convert the totals to.
+     * @return The spend of every category with expenses in the month, highest total first, or a not found failure if
+     * an exchange rate is missing.
+     */
+    Either<Failure, List<MonthlyCategorySpend>> summarize(UUID accountId, YearMonth month, Currency currency);
+
+}
@@ -0,0 +1,54 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository fragment maintaining the {@code monthly_category_spend} rollup of the expenses, so spend summaries never
+ * scan the expenses table.
+ */
+public interface MonthlySpends {
+
+    /**
+     * Adds the new expenses to the rollup, incrementing the total and count of every account, month, category and
+     * currency they fall in. Must be called in the transaction inserting the expenses.
+     *
+     * @param expenses The new expenses.
+     */
+    void addToMonthlySpend(Collection<Expense> expenses);
+
+    /**
+     * Finds the spend of the account per category over the month.
+     *
+     * @param account The account identifier.
+     * @param month   The month.
+     * @return The spend of every category with expenses in the month.
+     */
+    List<MonthlyCategorySpend> findMonthlySpend(AccountIdentifier account, YearMonth month);
+
+    /**
+     * Finds the spend of the account in the category over the month, one rollup row per currency.
+     *
+     * @param account  The account identifier.
+     * @param month    The month.
+     * @param category The category identifier.
+     * @return The spend of the category in every currency it has expenses in over the month.
+     */
+    List<MonthlyCategorySpend> findMonthlySpend(AccountIdentifier account, YearMonth month, CategoryIdentifier category);
+
+    /**
+     * Recomputes the rollup of the accounts in the {@code [fromAccountId, toAccountId)} range from their expenses,
+     * replacing what was there. Expenses cannot be written until the calling transaction ends, so no increment made
+     * meanwhile is overwritten.
+     *
+     * @param fromAccountId The lowest account id of the range, inclusive.
+     * @param toAccountId   The highest account id of the range, exclusive, or {@code null} for no upper bound.
+     * @return The number of rollup rows written.
+     */
+    int rebuildMonthlySpend(UUID fromAccountId, UUID toAccountId);
+
+}
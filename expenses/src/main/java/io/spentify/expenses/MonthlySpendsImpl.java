@@ -0,0 +1,148 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+@RequiredArgsConstructor
+class MonthlySpendsImpl implements MonthlySpends {
+
+    private static final RowMapper<MonthlyCategorySpend> MONTHLY_CATEGORY_SPEND = (rs, rowNum) -> new MonthlyCategorySpend(
+            rs.getObject("category_id", UUID.class),
+            Amount.parse(rs.getString("total"), Currency.getInstance(rs.getString("currency"))),
+            rs.getLong("count"));
+
+    private static final String UPSERT = """
+            INSERT INTO monthly_category_spend AS s (account_id, month, category_id, currency, total, count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (account_id, month, category_id, currency)
+                DO UPDATE SET total = s.total + EXCLUDED.total, count = s.count + EXCLUDED.count
+            """;
+
+    private static final String SELECT_MONTH = """
+            SELECT category_id, currency, total, count
+            FROM monthly_category_spend
+            WHERE account_id = ? AND month = ?
+            ORDER BY total DESC
+            """;
+
+    private static final String SELECT_CATEGORY_MONTH = """
+            SELECT category_id, currency, total, count
+            FROM monthly_category_spend
+            WHERE account_id = ? AND month = ? AND category_id = ?
+            """;
+
+    /**
+     * Blocks expense writes, and the rollup increments made with them, until the rebuild commits. Share locks do not
+     * conflict with each other, so ranges are still rebuilt in parallel.
+     */
+    private static final String LOCK_EXPENSES = "LOCK TABLE expenses IN SHARE MODE";
+
+    private static final String DELETE_RANGE = """
+            DELETE FROM monthly_category_spend
+            WHERE account_id >= ? %s
+            """;
+
+    private static final String INSERT_RANGE = """
+            INSERT INTO monthly_category_spend AS s (account_id, month, category_id, currency, total, count)
+            SELECT account_id, date_trunc('month', expense_date)::DATE, category_id, currency, sum(amount), count(*)
+            FROM expenses
+            WHERE account_id >= ? %s
+            GROUP BY 1, 2, 3, 4
+            ON CONFLICT (account_id, month, category_id, currency)
+                DO UPDATE SET total = EXCLUDED.total, count = EXCLUDED.count
+            """;
+
+    /**
+     * Upserts in a stable key order, so concurrent transactions lock the shared rollup rows in the same order.
+     */
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing((Key key) -> key.account().toString())
+            .thenComparing(Key::month)
+            .thenComparing(key -> key.category().toString())
+            .thenComparing(Key::currency);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addToMonthlySpend(Collection<Expense> expenses) {
+        requireNonNull(expenses, "expenses cannot be null");
+
+        var spends = expenses.stream()
+                .collect(Collectors.toMap(Key::of, Spend::of, Spend::plus))
+                .entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPSERT, spends, BulkExpensesImpl.BATCH_SIZE, (ps, spend) -> {
+            ps.setObject(1, spend.getKey().account());
+            ps.setDate(2, Date.valueOf(spend.getKey().month()));
+            ps.setObject(3, spend.getKey().category());
+            ps.setString(4, spend.getKey().currency());
+            ps.setBigDecimal(5, spend.getValue().total().toBigDecimal());
+            ps.setLong(6, spend.getValue().count());
+        });
+    }
+
+    @Override
+    public List<MonthlyCategorySpend> findMonthlySpend(AccountIdentifier account, YearMonth month) {
+        requireNonNull(account, "account cannot be null");
+        requireNonNull(month, "month cannot be null");
+
+        return jdbcTemplate.query(SELECT_MONTH, MONTHLY_CATEGORY_SPEND, account.id(), Date.valueOf(month.atDay(1)));
+    }
+
+    @Override
+    public List<MonthlyCategorySpend> findMonthlySpend(AccountIdentifier account, YearMonth month, CategoryIdentifier category) {
+        requireNonNull(account, "account cannot be null");
+        requireNonNull(month, "month cannot be null");
+        requireNonNull(category, "category cannot be null");
+
+        return jdbcTemplate.query(SELECT_CATEGORY_MONTH, MONTHLY_CATEGORY_SPEND,
+                account.id(), Date.valueOf(month.atDay(1)), category.id());
+    }
+
+    @Override
+    public int rebuildMonthlySpend(UUID fromAccountId, UUID toAccountId) {
+        requireNonNull(fromAccountId, "fromAccountId cannot be null");
+
+        var upperBound = toAccountId == null ? "" : "AND account_id < ?";
+        var args = toAccountId == null ? new Object[]{fromAccountId} : new Object[]{fromAccountId, toAccountId};
+
+        jdbcTemplate.execute(LOCK_EXPENSES);
+        jdbcTemplate.update(DELETE_RANGE.formatted(upperBound), args);
+        return jdbcTemplate.update(INSERT_RANGE.formatted(upperBound), args);
+    }
+
+    private record Key(UUID account, LocalDate month, UUID category, String currency) {
+
+        static Key of(Expense expense) {
+            return new Key(expense.getAccount().id(), expense.getExpenseDate().withDayOfMonth(1),
+                    expense.getCategory().id(), expense.getCurrencyCode());
+        }
+    }
+
+    private record Spend(Amount total, long count) {
+
+        static Spend of(Expense expense) {
+            return new Spend(expense.getAmount(), 1);
+        }
+
+        Spend plus(Spend other) {
+            return new Spend(total.plus(other.total), count + other.count);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.spentify.expenses;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The position of the last match of a search page in the {@code (rank, expense_date, id)} descending order, the next
+ * page starts right after it. It is exchanged with clients as an opaque URL-safe token.
+ *
+ * @param rank        The rank of the last match of the page.
+ * @param expenseDate The expense date of the last match of the page.
+ * @param id          The identifier of the last match of the page.
+ */
+public record SearchCursor(float rank, LocalDate expenseDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public SearchCursor {
+        requireNonNull(expenseDate, "expenseDate cannot be null");
+        requireNonNull(id, "id cannot be null");
+    }
+
+    public static SearchCursor after(ExpenseMatch match) {
+        return new SearchCursor(match.rank(), match.expense().expenseDate(), match.expense().id());
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException If the token is malformed.
+     */
+    public static SearchCursor decode(String token) {
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            return new SearchCursor(Float.parseFloat(parts[0]), LocalDate.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor '" + token + "'", e);
+        }
+    }
+
+    /**
+     * The rank is written as the shortest decimal that reads back as the same {@code float}, so the next page compares
+     * against exactly the rank computed by the database.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rank + SEPARATOR + expenseDate + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package io.spentify.expenses;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+class SearchExpensesService implements SearchExpensesUseCase {
+
+    private final Expenses expenses;
+
+    @Override
+    public SearchPage search(SearchExpensesQuery query) {
+        // one extra row tells whether a next page exists without a COUNT
+        var matches = expenses.search(query, query.limit + 1);
+        if (matches.size() <= query.limit) {
+            return new SearchPage(matches, null);
+        }
+
+        var page = matches.subList(0, query.limit);
+        return new SearchPage(page, SearchCursor.after(page.get(query.limit - 1)));
+    }
+}
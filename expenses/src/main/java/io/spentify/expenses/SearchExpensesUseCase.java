@@ -0,0 +1,62 @@
+package io.spentify.expenses;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@link SearchExpensesUseCase} interface represents a use case for searching the expenses of an account by
+ * description.
+ */
+public interface SearchExpensesUseCase {
+
+    /**
+     * Searches a page of the account expenses whose description contains the words of the query, or the query as a
+     * substring, most relevant first.
+     * <p>
+     * Pages are addressed by keyset: a page starts right after the {@link SearchCursor} of the previous one.
+     *
+     * @param query The query holding the account, the search text, the page size and the cursor.
+     * @return The {@link SearchPage} with the matches and the cursor of the next page, if any.
+     */
+    SearchPage search(SearchExpensesQuery query);
+
+    /**
+     * A page of search matches.
+     *
+     * @param matches The matches of the page, most relevant first.
+     * @param next    The cursor of the next page, or {@code null} if this is the last page.
+     */
+    record SearchPage(List<ExpenseMatch> matches, SearchCursor next) {}
+
+    @Builder
+    class SearchExpensesQuery extends SelfValidating<SearchExpensesQuery> {
+
+        @NotNull(message = "accountId cannot be null")
+        public final UUID accountId;
+
+        @NotBlank(message = "q cannot be blank")
+        @Size(max = 200, message = "q must be at most 200 characters")
+        public final String q;
+
+        @Min(value = 1, message = "limit must be at least 1")
+        @Max(value = 100, message = "limit must be at most 100")
+        public final int limit;
+
+        public final SearchCursor cursor;
+
+        public SearchExpensesQuery(UUID accountId, String q, int limit, SearchCursor cursor) {
+            this.accountId = accountId;
+            this.q = q;
+            this.limit = limit;
+            this.cursor = cursor;
+            this.validateSelf();
+        }
+    }
+}
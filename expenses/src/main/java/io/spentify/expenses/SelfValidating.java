@@ -16,11 +16,11 @@ import jakarta.validation.Validator;
  */
 public abstract class SelfValidating<T> {
 
-    private final Validator validator;
-
-    public SelfValidating() {
-        validator = Validation.buildDefaultValidatorFactory().getValidator();
-    }
+    /**
+     * Built once per process and shared by every command. The validator is thread-safe and caches the constraint
+     * metadata of each validated class, so only the first command of a type pays for introspection.
+     */
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
 
     /**
      * Validates the current object based on the configured constraints.
@@ -31,7 +31,7 @@ public abstract class SelfValidating<T> {
      * @throws ConstraintViolationException If the object does not satisfy the defined constraints.
      */
     protected void validateSelf() {
-        var violations = validator.validate((T) this);
+        var violations = VALIDATOR.validate((T) this);
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
         }
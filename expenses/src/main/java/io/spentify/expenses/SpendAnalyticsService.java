@@ -0,0 +1,39 @@
+package io.spentify.expenses;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsFirst;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+class SpendAnalyticsService implements SpendAnalyticsUseCase {
+
+    private static final Comparator<SpendGroup> PER_CATEGORY = comparing(SpendGroup::total, comparing(Amount::units)).reversed()
+            .thenComparing(group -> group.total().currency().getCurrencyCode())
+            .thenComparing(SpendGroup::categoryId);
+
+    private static final Comparator<SpendGroup> PER_MONTH = comparing(SpendGroup::month, nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(group -> group.total().currency().getCurrencyCode());
+
+    private final Expenses expenses;
+    private final Optional<ExpenseColumnStore> columnStore;
+
+    @Override
+    public List<SpendGroup> analyze(SpendQuery query) {
+        var groups = columnStore
+                .map(store -> store.aggregate(query))
+                .orElseGet(() -> expenses.aggregate(query));
+
+        return groups.stream()
+                .sorted(query.grouping() == Grouping.CATEGORY ? PER_CATEGORY : PER_MONTH)
+                .toList();
+    }
+}
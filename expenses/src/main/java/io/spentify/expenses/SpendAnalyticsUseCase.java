@@ -0,0 +1,81 @@
+package io.spentify.expenses;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@link SpendAnalyticsUseCase} interface represents a use case for aggregating the spend of an account, as the
+ * dashboards do.
+ */
+public interface SpendAnalyticsUseCase {
+
+    /**
+     * Aggregates the account expenses matching the query filters per category or per month, and currency.
+     * <p>
+     * With {@code expenses.analytics.enabled} the expenses of the account are aggregated in memory, from the columns
+     * of the {@link ExpenseColumnStore}, otherwise by the database.
+     *
+     * @param query The query holding the account, the filters and the grouping.
+     * @return The {@link SpendGroup}s, highest total first when grouped per category, oldest first when per month.
+     */
+    List<SpendGroup> analyze(SpendQuery query);
+
+    /**
+     * How the expenses are grouped.
+     */
+    enum Grouping {
+        CATEGORY, MONTH;
+
+        static Grouping fromValue(String value) {
+            return valueOf(value.toUpperCase());
+        }
+    }
+
+    @Builder
+    class SpendQuery extends SelfValidating<SpendQuery> {
+
+        @NotNull(message = "accountId cannot be null")
+        public final UUID accountId;
+
+        public final LocalDate from;
+
+        public final LocalDate to;
+
+        public final UUID categoryId;
+
+        @Pattern(regexp = "(?i)cash|card", message = "paymentType can be: 'cash', 'card'")
+        public final String paymentType;
+
+        @NotNull(message = "groupBy cannot be null")
+        @Pattern(regexp = "(?i)category|month", message = "groupBy can be: 'category', 'month'")
+        public final String groupBy;
+
+        public SpendQuery(UUID accountId,
+                          LocalDate from,
+                          LocalDate to,
+                          UUID categoryId,
+                          String paymentType,
+                          String groupBy) {
+            this.accountId = accountId;
+            this.from = from;
+            this.to = to;
+            this.categoryId = categoryId;
+            this.paymentType = paymentType;
+            this.groupBy = groupBy;
+            this.validateSelf();
+        }
+
+        Grouping grouping() {
+            return Grouping.fromValue(groupBy);
+        }
+
+        Payment.Type payment() {
+            return paymentType == null ? null : Payment.Type.fromValue(paymentType);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.spentify.expenses;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * The spend of an account in a category or a month, and a currency.
+ *
+ * @param categoryId The category of the expenses, {@code null} when grouped per month.
+ * @param month      The month of the expenses, {@code null} when grouped per category.
+ * @param total      The sum of the expense amounts.
+ * @param count      The number of expenses.
+ */
+public record SpendGroup(UUID categoryId, YearMonth month, Amount total, long count) {}
@@ -0,0 +1,24 @@
+package io.spentify.expenses;
+
+/**
+ * The layout of a CSV bank statement, the 1-based positions of the mapped columns among all its columns.
+ * Optional columns missing from the statement have the position {@link #ABSENT}.
+ *
+ * @param count       The number of columns of the statement.
+ * @param date        The position of the expense date column.
+ * @param amount      The position of the amount column.
+ * @param description The position of the description column.
+ * @param paymentType The position of the payment type column.
+ * @param category    The position of the category id column.
+ * @param currency    The position of the currency column.
+ */
+public record StatementColumns(int count, int date, int amount, int description, int paymentType, int category, int currency) {
+
+    public static final int ABSENT = 0;
+
+    public StatementColumns {
+        if (date == ABSENT || amount == ABSENT) {
+            throw new IllegalArgumentException("date and amount columns are required");
+        }
+    }
+}
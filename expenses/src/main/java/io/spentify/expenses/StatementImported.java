@@ -0,0 +1,8 @@
+package io.spentify.expenses;
+
+/**
+ * Published within the transaction importing a statement, listeners observe it once the transaction commits.
+ *
+ * @param account The account the expenses were imported to.
+ */
+public record StatementImported(AccountIdentifier account) {}
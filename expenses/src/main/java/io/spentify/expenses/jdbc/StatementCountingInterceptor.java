@@ -0,0 +1,64 @@
+package io.spentify.expenses.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the statements of every Kafka record, or of every batch of records in the {@code batch} listener mode, see
+ * {@link StatementMetrics}. Picked up by the listener container factory, the listener runs between
+ * {@code intercept} and {@code afterRecord}, or {@code success} and {@code failure} of a batch.
+ */
+@Component
+@RequiredArgsConstructor
+class StatementCountingInterceptor implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+    private static final ThreadLocal<StatementCounts> counts = new ThreadLocal<>();
+
+    private final StatementMetrics metrics;
+
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        counts.set(StatementCounts.open());
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        close(record.topic());
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        counts.set(StatementCounts.open());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        close(topic(records));
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        close(topic(records));
+    }
+
+    private void close(String topic) {
+        var scope = counts.get();
+        if (scope != null) {
+            counts.remove();
+            scope.close();
+            metrics.record("kafka", topic, scope);
+        }
+    }
+
+    private static String topic(ConsumerRecords<Object, Object> records) {
+        var partitions = records.partitions().iterator();
+        return partitions.hasNext() ? partitions.next().topic() : "UNKNOWN";
+    }
+}
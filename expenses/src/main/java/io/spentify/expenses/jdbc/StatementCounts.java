@@ -0,0 +1,166 @@
+package io.spentify.expenses.jdbc;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The SQL statements issued on the current thread between {@link #open()} and {@link #close()}, counted by the
+ * {@link CountingDataSourcePostProcessor proxied data source}: one per round trip to the database, so a JDBC batch is
+ * one statement, and the rows it inserted, updated or deleted. Scopes nest, statements are counted in the innermost.
+ * <pre>{@code
+ * try (var counts = StatementCounts.open()) {
+ *     createExpenseUseCase.create(cmd);
+ *     assertThat(counts.inserts()).isEqualTo(1);
+ * }
+ * }</pre>
+ */
+public final class StatementCounts implements AutoCloseable {
+
+    private static final ThreadLocal<StatementCounts> current = new ThreadLocal<>();
+    private static final Pattern WRITE = Pattern.compile("\\b(insert|update|delete)\\b");
+
+    private final StatementCounts enclosing;
+    private long selects;
+    private long inserts;
+    private long updates;
+    private long deletes;
+    private long others;
+    private long batches;
+    private long rows;
+
+    private StatementCounts(StatementCounts enclosing) {
+        this.enclosing = enclosing;
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     *
+     * @return The counts, closed once the statements are issued.
+     */
+    public static StatementCounts open() {
+        var counts = new StatementCounts(current.get());
+        current.set(counts);
+        return counts;
+    }
+
+    /**
+     * Stops counting, the counts keep their values.
+     */
+    @Override
+    public void close() {
+        if (current.get() != this) {
+            throw new IllegalStateException("statement counts closed out of order");
+        }
+        if (enclosing == null) {
+            current.remove();
+        } else {
+            current.set(enclosing);
+        }
+    }
+
+    static void statement(String sql) {
+        var counts = current.get();
+        if (counts == null) {
+            return;
+        }
+        switch (Type.of(sql)) {
+            case SELECT -> counts.selects++;
+            case INSERT -> counts.inserts++;
+            case UPDATE -> counts.updates++;
+            case DELETE -> counts.deletes++;
+            case OTHER -> counts.others++;
+        }
+    }
+
+    static void batch(String sql, int[] updateCounts) {
+        statement(sql);
+        var counts = current.get();
+        if (counts == null) {
+            return;
+        }
+        counts.batches++;
+        for (var updated : updateCounts) {
+            counts.rows += Math.max(updated, 0);
+        }
+    }
+
+    static void rows(long updated) {
+        var counts = current.get();
+        if (counts != null) {
+            counts.rows += Math.max(updated, 0);
+        }
+    }
+
+    public long selects() {
+        return selects;
+    }
+
+    public long inserts() {
+        return inserts;
+    }
+
+    public long updates() {
+        return updates;
+    }
+
+    public long deletes() {
+        return deletes;
+    }
+
+    /**
+     * @return The statements that neither query nor change rows, such as DDL or {@code SET}.
+     */
+    public long others() {
+        return others;
+    }
+
+    public long statements() {
+        return selects + inserts + updates + deletes + others;
+    }
+
+    /**
+     * @return The statements that were JDBC batches.
+     */
+    public long batches() {
+        return batches;
+    }
+
+    /**
+     * @return The rows inserted, updated or deleted, as reported by the driver.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCounts[selects=%d, inserts=%d, updates=%d, deletes=%d, others=%d, batches=%d, rows=%d]"
+                .formatted(selects, inserts, updates, deletes, others, batches, rows);
+    }
+
+    /**
+     * The kind of statement, a common table expression counts as the first write it contains, else as a select.
+     */
+    enum Type {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Type of(String sql) {
+            var text = sql.stripLeading().toLowerCase(Locale.ROOT);
+            var end = 0;
+            while (end < text.length() && Character.isLetter(text.charAt(end))) {
+                end++;
+            }
+            return switch (text.substring(0, end)) {
+                case "select", "values", "table" -> SELECT;
+                case "insert" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                case "with" -> {
+                    var write = WRITE.matcher(text);
+                    yield write.find() ? valueOf(write.group(1).toUpperCase(Locale.ROOT)) : SELECT;
+                }
+                default -> OTHER;
+            };
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.spentify.expenses.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the {@link StatementCounts} of every HTTP request and Kafka record as distribution summaries, tagged by the
+ * scope, {@code http} or {@code kafka}, and its name, the request URI template or the record topic:
+ * {@code jdbc.statements} per statement type, {@code jdbc.batches} and {@code jdbc.rows}. A maximum above the mean of
+ * {@code jdbc.statements} hints at statements issued per item, an N+1.
+ */
+@Component
+@RequiredArgsConstructor
+class StatementMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    void record(String scope, String name, StatementCounts counts) {
+        statements(scope, name, "select").record(counts.selects());
+        statements(scope, name, "insert").record(counts.inserts());
+        statements(scope, name, "update").record(counts.updates());
+        statements(scope, name, "delete").record(counts.deletes());
+        statements(scope, name, "other").record(counts.others());
+        summary("jdbc.batches", "JDBC batches executed", scope, name).record(counts.batches());
+        summary("jdbc.rows", "Rows inserted, updated or deleted", scope, name).record(counts.rows());
+    }
+
+    private DistributionSummary statements(String scope, String name, String type) {
+        return DistributionSummary.builder("jdbc.statements")
+                .description("SQL statements executed, one per round trip")
+                .tags("scope", scope, "name", name, "type", type)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary summary(String metric, String description, String scope, String name) {
+        return DistributionSummary.builder(metric)
+                .description(description)
+                .tags("scope", scope, "name", name)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package io.spentify.expenses.messaging;
+
+import io.spentify.expenses.CategoryService;
+import io.spentify.expenses.DefaultCategories;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.spentify.expenses.messaging.AccountsOutboxEventsListener.AccountCreated;
+
+/**
+ * Seeds the default categories of all accounts received by a single {@code poll()} within one transaction. Accounts
+ * already seeded are skipped by {@link ProcessedEvents}, offsets are committed once the whole batch is processed. The
+ * batch size and wait are bounded by {@code spring.kafka.consumer.max-poll-records} and
+ * {@code spring.kafka.consumer.fetch-max-wait}. The propagation latency of the seeded accounts is recorded by
+ * {@link PropagationLatency}.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.kafka.listener.type", havingValue = "batch")
+@RequiredArgsConstructor
+@Slf4j
+class AccountsOutboxEventsBatchListener {
+
+    private final CategoryService categoryService;
+    private final ProcessedEvents processedEvents;
+    private final ProcessingTime processingTime;
+    private final PropagationLatency propagationLatency;
+
+    @Transactional
+    @KafkaListener(
+            id = "${spring.kafka.client-id}",
+            topics = "${kafka.topic.accounts.outbox.events.name}",
+            groupId = "${spring.kafka.consumer.group-id}"
+    )
+    void on(List<AccountCreated> events,
+            @Header(KafkaHeaders.BATCH_CONVERTED_HEADERS) List<Map<String, Object>> headers,
+            Acknowledgment acknowledgment) {
+        var started = System.nanoTime();
+        log.debug("New Accounts created: {}", events.size());
+        var eventTimestamps = new HashMap<UUID, byte[]>(events.size());
+        for (var i = 0; i < events.size(); i++) {
+            if (headers.get(i).get(PropagationLatency.EVENT_TIMESTAMP) instanceof byte[] eventTimestamp) {
+                eventTimestamps.put(events.get(i).accountId(), eventTimestamp);
+            }
+        }
+        var accountIds = events.stream()
+                .map(AccountCreated::accountId)
+                .toList();
+        var claimed = processedEvents.claim(AccountCreated.TYPE, accountIds);
+        if (!claimed.isEmpty()) {
+            categoryService.addAll(claimed, DefaultCategories.asList());
+            propagationLatency.seeded(claimed.stream().map(eventTimestamps::get).toList());
+        }
+        acknowledgment.acknowledge();
+        processingTime.finished(started);
+    }
+}
@@ -5,27 +5,52 @@ import io.spentify.expenses.DefaultCategories;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Seeds the default categories of every created account, one record at a time. Active in the {@code single} listener
+ * mode, see {@link AccountsOutboxEventsBatchListener} for the {@code batch} one. Redelivered events are skipped by
+ * {@link ProcessedEvents}, the offset is committed once the record is processed. The propagation latency of the seeded
+ * accounts is recorded by {@link PropagationLatency}.
+ */
 @Component
+@ConditionalOnProperty(name = "spring.kafka.listener.type", havingValue = "single", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 class AccountsOutboxEventsListener {
 
     private final CategoryService categoryService;
+    private final ProcessedEvents processedEvents;
+    private final ProcessingTime processingTime;
+    private final PropagationLatency propagationLatency;
 
+    @Transactional
     @KafkaListener(
             id = "${spring.kafka.client-id}",
             topics = "${kafka.topic.accounts.outbox.events.name}",
             groupId = "${spring.kafka.consumer.group-id}"
     )
-    void on(AccountCreated event) {
+    void on(AccountCreated event,
+            @Header(name = PropagationLatency.EVENT_TIMESTAMP, required = false) byte[] eventTimestamp,
+            Acknowledgment acknowledgment) {
+        var started = System.nanoTime();
         log.debug("New Account created: {}", event);
-        DefaultCategories.asList()
-                .forEach(category -> categoryService.add(event.accountId(), category));
+        var claimed = processedEvents.claim(AccountCreated.TYPE, List.of(event.accountId()));
+        if (!claimed.isEmpty()) {
+            categoryService.addAll(event.accountId(), DefaultCategories.asList());
+            propagationLatency.seeded(Collections.singletonList(eventTimestamp));
+        }
+        acknowledgment.acknowledge();
+        processingTime.finished(started);
     }
 
     @Builder
@@ -33,5 +58,10 @@ class AccountsOutboxEventsListener {
                           String firstName,
                           String lastName,
                           String emailAddress) {
+
+        /**
+         * The event type, as issued by the accounts outbox.
+         */
+        static final String TYPE = "AccountCreated";
     }
 }
@@ -0,0 +1,102 @@
+package io.spentify.expenses.messaging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Dedupe store of consumed events keyed by (aggregate id, event type), kept in the {@code processed_event} table.
+ * A bounded window of recently processed keys is held in memory, so redelivered events are mostly filtered out
+ * without reaching the database.
+ */
+@Component
+class ProcessedEvents {
+
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT = "INSERT INTO processed_event (aggregate_id, type) VALUES ";
+    private static final String ROW = "(?, ?)";
+    private static final String ON_CONFLICT = " ON CONFLICT (aggregate_id, type) DO NOTHING RETURNING aggregate_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Boolean> recent;
+
+    ProcessedEvents(JdbcTemplate jdbcTemplate,
+                    @Value("${kafka.consumer.processed-events.window-size}") long windowSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(windowSize)
+                .build();
+    }
+
+    /**
+     * Marks the events of the given type as processed within the current transaction.
+     *
+     * @param type         The event type.
+     * @param aggregateIds The ids of the aggregates the events were issued for.
+     * @return The aggregate ids not processed before, in the order they were provided.
+     */
+    List<UUID> claim(String type, Collection<UUID> aggregateIds) {
+        requireNonNull(type, "type cannot be null");
+        requireNonNull(aggregateIds, "aggregateIds cannot be null");
+
+        var candidates = aggregateIds.stream()
+                .distinct()
+                .filter(aggregateId -> recent.getIfPresent(key(type, aggregateId)) == null)
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        var claimed = new HashSet<UUID>();
+        for (int from = 0; from < candidates.size(); from += MAX_ROWS_PER_STATEMENT) {
+            var chunk = candidates.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, candidates.size()));
+            claimed.addAll(insert(type, chunk));
+        }
+        remember(type, candidates);
+
+        return candidates.stream()
+                .filter(claimed::contains)
+                .toList();
+    }
+
+    private List<UUID> insert(String type, List<UUID> chunk) {
+        var sql = INSERT + String.join(", ", Collections.nCopies(chunk.size(), ROW)) + ON_CONFLICT;
+        var args = new Object[chunk.size() * 2];
+        var i = 0;
+        for (var aggregateId : chunk) {
+            args[i++] = aggregateId.toString();
+            args[i++] = type;
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> UUID.fromString(rs.getString(1)), args);
+    }
+
+    /**
+     * Keys enter the window only once the claim is committed, a rolled back claim must be processed again.
+     */
+    private void remember(String type, List<UUID> aggregateIds) {
+        Runnable remember = () -> aggregateIds.forEach(aggregateId -> recent.put(key(type, aggregateId), Boolean.TRUE));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember.run();
+            }
+        });
+    }
+
+    private static String key(String type, UUID aggregateId) {
+        return type + ':' + aggregateId;
+    }
+}
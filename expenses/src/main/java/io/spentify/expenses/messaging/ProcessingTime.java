@@ -0,0 +1,34 @@
+package io.spentify.expenses.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The time the last record or batch of accounts outbox events took to process, exposed as the
+ * {@code accounts.outbox.events.processing} gauge. The gauge is sampled, not summed: a climbing value while the consumer
+ * lag grows means the listener cannot keep up with the accounts created.
+ */
+@Component
+class ProcessingTime {
+
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    ProcessingTime(MeterRegistry meterRegistry) {
+        TimeGauge.builder("accounts.outbox.events.processing", lastNanos, TimeUnit.NANOSECONDS, AtomicLong::doubleValue)
+                .description("Time the last record or batch of accounts outbox events took to process")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the processing started at the given {@link System#nanoTime()} as finished now.
+     *
+     * @param startNanos The {@link System#nanoTime()} the processing started at.
+     */
+    void finished(long startNanos) {
+        lastNanos.set(System.nanoTime() - startNanos);
+    }
+}
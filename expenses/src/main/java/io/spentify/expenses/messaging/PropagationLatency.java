@@ -0,0 +1,86 @@
+package io.spentify.expenses.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.time.temporal.ChronoUnit.MICROS;
+
+/**
+ * Records the time from an accounts outbox event being written to the default categories of its account being seeded
+ * as the {@code accounts.outbox.events.propagation} timer. The outbox {@code timestamp} is carried by the
+ * {@value #EVENT_TIMESTAMP} header, in microseconds since the epoch, by both the Debezium connector and the outbox relay.
+ * The latency is recorded once the seeding commits, events without a valid header are left out.
+ */
+@Component
+@Slf4j
+class PropagationLatency {
+
+    static final String EVENT_TIMESTAMP = "eventTimestamp";
+
+    private final Timer latency;
+
+    PropagationLatency(MeterRegistry meterRegistry) {
+        this.latency = Timer.builder("accounts.outbox.events.propagation")
+                .description("Time from an accounts outbox event being written to its account being seeded")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the latency of the events seeded by the current transaction, once it commits, or now without one.
+     *
+     * @param eventTimestamps The {@value #EVENT_TIMESTAMP} headers of the events, {@code null} if absent.
+     */
+    void seeded(Collection<byte[]> eventTimestamps) {
+        var written = new ArrayList<Instant>(eventTimestamps.size());
+        for (var eventTimestamp : eventTimestamps) {
+            if (eventTimestamp == null) {
+                continue;
+            }
+            try {
+                written.add(parse(eventTimestamp));
+            } catch (NumberFormatException e) {
+                log.warn("Skipping the malformed {} header: {}", EVENT_TIMESTAMP, e.getMessage());
+            }
+        }
+        if (written.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(written);
+                }
+            });
+        } else {
+            record(written);
+        }
+    }
+
+    private void record(List<Instant> written) {
+        var seeded = Instant.now();
+        written.forEach(timestamp -> latency.record(Duration.between(timestamp, seeded)));
+    }
+
+    static Instant parse(byte[] eventTimestamp) {
+        return Instant.EPOCH.plus(Long.parseLong(new String(eventTimestamp, StandardCharsets.US_ASCII)), MICROS);
+    }
+
+    static byte[] format(Instant timestamp) {
+        return Long.toString(MICROS.between(Instant.EPOCH, timestamp)).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,68 @@
+package io.spentify.expenses.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.spentify.expenses.Amount;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.Currency;
+
+/**
+ * Writes an {@link Amount} as {@code {"amount": 12.5000, "currency": "EUR"}} and reads it back without an intermediate
+ * {@link java.math.BigDecimal}, the amount may also be a string.
+ */
+@JsonComponent
+class AmountJsonComponent {
+
+    private static final String AMOUNT = "amount";
+    private static final String CURRENCY = "currency";
+
+    static class Serializer extends JsonSerializer<Amount> {
+
+        @Override
+        public void serialize(Amount value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(AMOUNT);
+            gen.writeNumber(value.toPlainString());
+            gen.writeStringField(CURRENCY, value.currency().getCurrencyCode());
+            gen.writeEndObject();
+        }
+    }
+
+    static class Deserializer extends JsonDeserializer<Amount> {
+
+        @Override
+        public Amount deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (Amount) ctxt.handleUnexpectedToken(Amount.class, p);
+            }
+
+            String amount = null;
+            String currency = null;
+            for (var field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+                var token = p.nextToken();
+                switch (field) {
+                    case AMOUNT -> amount = token == JsonToken.VALUE_NULL ? null : p.getText();
+                    case CURRENCY -> currency = token == JsonToken.VALUE_NULL ? null : p.getText();
+                    default -> p.skipChildren();
+                }
+            }
+
+            if (amount == null || currency == null) {
+                return (Amount) ctxt.handleWeirdStringValue(Amount.class, String.valueOf(amount),
+                        "amount and currency are required");
+            }
+            try {
+                return Amount.parse(amount, Currency.getInstance(currency));
+            } catch (IllegalArgumentException e) {
+                return (Amount) ctxt.handleWeirdStringValue(Amount.class, amount, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package io.spentify.expenses.web;
 
+import io.spentify.expenses.Failure;
+import io.spentify.expenses.Failure.ConflictFailure;
+import io.spentify.expenses.Failure.NotFoundFailure;
+import io.spentify.expenses.Failure.ValidationFailure;
 import lombok.Builder;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -169,6 +173,19 @@ public record ApiErrorResponse(Instant timestamp,
                         .build());
     }
 
+    /**
+     * Creates the {@link ResponseEntity} of a use case {@link Failure}.
+     */
+    public static ResponseEntity<ApiErrorResponse> of(Failure failure) {
+        return switch (failure) {
+            case NotFoundFailure f -> notFound(f.message());
+            case ConflictFailure f -> conflict(f.message());
+            case ValidationFailure f -> unprocessableEntity(f.fieldViolations().stream()
+                    .map(v -> new ApiErrorField(v.field(), v.message(), v.rejectedValue()))
+                    .toList(), f.message());
+        };
+    }
+
     /**
      * Represents a field-specific error in the API response.
      *
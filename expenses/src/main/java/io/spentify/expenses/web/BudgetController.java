@@ -0,0 +1,91 @@
+package io.spentify.expenses.web;
+
+import io.spentify.expenses.Amount;
+import io.spentify.expenses.Budget;
+import io.spentify.expenses.BudgetStatus;
+import io.spentify.expenses.BudgetUseCase;
+import io.spentify.expenses.BudgetUseCase.SetBudgetCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RestController
+@RequestMapping(path = "/v1/budgets")
+@RequiredArgsConstructor
+final class BudgetController implements BudgetControllerDoc {
+
+    private final BudgetUseCase budgetUseCase;
+
+    /**
+     * Sets the monthly limit of the category budget, creating the budget if the category has none.
+     */
+    @Override
+    @PutMapping(path = "/{categoryId}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> set(@PathVariable UUID categoryId, @RequestBody BudgetResource resource) {
+        var cmd = SetBudgetCommand.builder()
+                .accountId(resource.accountId())
+                .categoryId(categoryId)
+                .monthlyLimit(resource.monthlyLimit())
+                .currency(resource.currency())
+                .build();
+
+        return budgetUseCase.set(cmd)
+                .fold(ApiErrorResponse::of, budget -> ResponseEntity.ok(toResource(budget)));
+    }
+
+    /**
+     * Lists the budgets of the account with their spend over a month, the current one by default.
+     */
+    @Override
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> list(@RequestParam UUID accountId, @RequestParam(required = false) YearMonth month) {
+        var statuses = budgetUseCase.findAll(accountId, month == null ? YearMonth.now() : month);
+        return ResponseEntity.ok(new BudgetStatusesResource(accountId, statuses.stream()
+                .map(BudgetController::toResource)
+                .toList()));
+    }
+
+    /**
+     * Deletes the budget of the category.
+     */
+    @Override
+    @DeleteMapping(path = "/{categoryId}")
+    public ResponseEntity<?> delete(@PathVariable UUID categoryId, @RequestParam UUID accountId) {
+        return budgetUseCase.delete(accountId, categoryId)
+                .fold(ApiErrorResponse::of, budget -> ResponseEntity.noContent().build());
+    }
+
+    private static BudgetResource toResource(Budget budget) {
+        return new BudgetResource(budget.getId().id(), budget.getAccount().id(),
+                budget.getMonthlyLimit().toBigDecimal(), budget.getMonthlyLimit().currency().getCurrencyCode());
+    }
+
+    private static BudgetStatusResource toResource(BudgetStatus status) {
+        return new BudgetStatusResource(status.categoryId(), status.month(), status.limit(), status.spent(),
+                status.unconverted(), status.exceeded());
+    }
+
+    record BudgetResource(UUID categoryId, UUID accountId, BigDecimal monthlyLimit, String currency) {}
+
+    /**
+     * The budgets of an account with their spend over a month.
+     */
+    record BudgetStatusesResource(UUID accountId, List<BudgetStatusResource> budgets) {}
+
+    record BudgetStatusResource(UUID categoryId, YearMonth month, Amount limit, Amount spent, List<Amount> unconverted,
+                                boolean exceeded) {}
+}
@@ -0,0 +1,75 @@
+package io.spentify.expenses.web;
+
+import io.spentify.expenses.web.BudgetController.BudgetResource;
+import io.spentify.expenses.web.BudgetController.BudgetStatusesResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+public interface BudgetControllerDoc {
+
+    String TAG = "budgets";
+
+    @Operation(summary = "Set the monthly budget of a category in the Spentify",
+            description = "Operation to create the budget of an expense category of the account, or replace its monthly limit. "
+                    + "The limit is in the given currency, EUR if absent",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = BudgetResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not found Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> set(@Parameter(description = "Budgeted category") UUID categoryId,
+                          @RequestBody(description = "Budget Resource to be set", required = true) BudgetResource resource);
+
+    @Operation(summary = "List the budgets of an account in the Spentify",
+            description = "Operation to get every budget of an account with the spend of its category over a month, the current one by default. "
+                    + "Spend in other currencies is converted to the currency of the limit at the rates effective on the last day of the month",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = BudgetStatusesResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> list(@Parameter(description = "Account owning the budgets") UUID accountId,
+                           @Parameter(description = "Month of the spend, as yyyy-MM") YearMonth month);
+
+    @Operation(summary = "Delete the budget of a category in the Spentify",
+            description = "Operation to delete the budget of an expense category of the account",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Successful Operation"),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not found Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> delete(@Parameter(description = "Budgeted category") UUID categoryId,
+                             @Parameter(description = "Account owning the budget") UUID accountId);
+}
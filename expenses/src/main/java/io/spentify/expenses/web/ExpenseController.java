@@ -1,58 +1,460 @@
 package io.spentify.expenses.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.spentify.expenses.Amount;
+import io.spentify.expenses.BudgetStatus;
+import io.spentify.expenses.BudgetUseCase;
 import io.spentify.expenses.CreateExpenseUseCase;
 import io.spentify.expenses.CreateExpenseUseCase.CreateExpenseCommand;
+import io.spentify.expenses.Expense;
+import io.spentify.expenses.ExpenseCursor;
+import io.spentify.expenses.ExpenseView;
+import io.spentify.expenses.ExportExpensesUseCase;
+import io.spentify.expenses.Failure;
+import io.spentify.expenses.ImportStatementUseCase;
+import io.spentify.expenses.ImportStatementUseCase.ImportStatementCommand;
+import io.spentify.expenses.ListExpensesUseCase;
+import io.spentify.expenses.ListExpensesUseCase.ListExpensesQuery;
+import io.spentify.expenses.MonthlyCategorySpend;
+import io.spentify.expenses.MonthlySpendUseCase;
+import io.spentify.expenses.SearchCursor;
+import io.spentify.expenses.SearchExpensesUseCase;
+import io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery;
+import io.spentify.expenses.SpendAnalyticsUseCase;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import io.spentify.expenses.web.ApiErrorResponse.ApiErrorField;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpHeaders.*;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
 
+@Slf4j
 @RestController
 @RequestMapping(path = "/v1/expenses")
 @RequiredArgsConstructor
 final class ExpenseController implements ExpenseControllerDoc {
 
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String GZIP = "gzip";
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final CreateExpenseUseCase createExpenseUseCase;
+    private final ImportStatementUseCase importStatementUseCase;
+    private final ListExpensesUseCase listExpensesUseCase;
+    private final SearchExpensesUseCase searchExpensesUseCase;
+    private final MonthlySpendUseCase monthlySpendUseCase;
+    private final SpendAnalyticsUseCase spendAnalyticsUseCase;
+    private final ExportExpensesUseCase exportExpensesUseCase;
+    private final BudgetUseCase budgetUseCase;
+    private final ObjectMapper objectMapper;
+
+    @Value("${expenses.batch.chunk-size}")
+    private int chunkSize;
 
+    /**
+     * Creates an expense, with a warning if it takes the spend of the month over the budget of its category.
+     */
     @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<?> create(@RequestBody ExpenseResource resource) {
-        var cmd = CreateExpenseCommand.builder()
+        var expense = createExpenseUseCase.create(toCommand(resource));
+        var warning = budgetUseCase.findExceeded(expense)
+                .map(ExpenseController::toResource)
+                .orElse(null);
+        return created(fromCurrentRequest().path("/{id}").build(expense.getId()))
+                .body(toResource(expense).toBuilder().budgetWarning(warning).build());
+    }
+
+    /**
+     * Lists the account expenses newest first, a page at a time. The {@code next} cursor of a page is passed as
+     * {@code cursor} to get the following page, and is absent on the last one.
+     */
+    @Override
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> list(@RequestParam UUID accountId,
+                                  @RequestParam(required = false) LocalDate from,
+                                  @RequestParam(required = false) LocalDate to,
+                                  @RequestParam(required = false) UUID categoryId,
+                                  @RequestParam(required = false) String paymentType,
+                                  @RequestParam(defaultValue = "20") int limit,
+                                  @RequestParam(required = false) String cursor) {
+        ExpenseCursor after;
+        try {
+            after = cursor == null ? null : ExpenseCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ApiErrorResponse.badRequest("Malformed cursor", e.getMessage());
+        }
+
+        var page = listExpensesUseCase.list(ListExpensesQuery.builder()
+                .accountId(accountId)
+                .from(from)
+                .to(to)
+                .categoryId(categoryId)
+                .paymentType(paymentType)
+                .limit(limit)
+                .cursor(after)
+                .build());
+
+        return ResponseEntity.ok(new ExpensePageResource(
+                page.expenses().stream().map(ExpenseController::toResource).toList(),
+                page.next() == null ? null : page.next().encode()));
+    }
+
+    /**
+     * Searches the account expenses by description, most relevant first, a page at a time. The {@code next} cursor of
+     * a page is passed as {@code cursor} to get the following page, and is absent on the last one.
+     */
+    @Override
+    @GetMapping(path = "/search", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> search(@RequestParam UUID accountId,
+                                    @RequestParam String q,
+                                    @RequestParam(defaultValue = "20") int limit,
+                                    @RequestParam(required = false) String cursor) {
+        SearchCursor after;
+        try {
+            after = cursor == null ? null : SearchCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ApiErrorResponse.badRequest("Malformed cursor", e.getMessage());
+        }
+
+        var page = searchExpensesUseCase.search(SearchExpensesQuery.builder()
+                .accountId(accountId)
+                .q(q)
+                .limit(limit)
+                .cursor(after)
+                .build());
+
+        return ResponseEntity.ok(new ExpensePageResource(
+                page.matches().stream().map(match -> toResource(match.expense())).toList(),
+                page.next() == null ? null : page.next().encode()));
+    }
+
+    /**
+     * Summarizes the account spend per category over a month.
+     */
+    @Override
+    @GetMapping(path = "/summary", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> summary(@RequestParam UUID accountId,
+                                     @RequestParam YearMonth month,
+                                     @RequestParam(required = false) Currency currency) {
+        if (currency == null) {
+            return ResponseEntity.ok(toResource(accountId, month, monthlySpendUseCase.summarize(accountId, month)));
+        }
+
+        return monthlySpendUseCase.summarize(accountId, month, currency)
+                .fold(ApiErrorResponse::of, spends -> ResponseEntity.ok(toResource(accountId, month, spends)));
+    }
+
+    /**
+     * Aggregates the account spend per category or month, and currency, over the expenses matching the filters.
+     */
+    @Override
+    @GetMapping(path = "/analytics", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> analytics(@RequestParam UUID accountId,
+                                       @RequestParam(required = false) LocalDate from,
+                                       @RequestParam(required = false) LocalDate to,
+                                       @RequestParam(required = false) UUID categoryId,
+                                       @RequestParam(required = false) String paymentType,
+                                       @RequestParam(defaultValue = "category") String groupBy) {
+        var groups = spendAnalyticsUseCase.analyze(SpendQuery.builder()
+                .accountId(accountId)
+                .from(from)
+                .to(to)
+                .categoryId(categoryId)
+                .paymentType(paymentType)
+                .groupBy(groupBy)
+                .build());
+
+        return ResponseEntity.ok(new SpendAnalyticsResource(accountId, groups.stream()
+                .map(group -> new SpendGroupResource(group.categoryId(), group.month(), group.total(), group.count()))
+                .toList()));
+    }
+
+    /**
+     * Streams every expense of the account as CSV or NDJSON, gzip compressed if the client accepts it. The expenses are
+     * written as they are read from the database cursor, the response is never held in memory.
+     */
+    @Override
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam UUID accountId,
+                                                       @RequestParam(defaultValue = "csv") ExportFormat format,
+                                                       @RequestHeader(name = ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        var gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+        var response = ResponseEntity.ok()
+                .contentType(format.mediaType)
+                .header(CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("expenses-%s.%s".formatted(accountId, format.value))
+                        .build().toString())
+                .header(VARY, ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(CONTENT_ENCODING, GZIP);
+        }
+
+        return response.body(out -> {
+            try (var stream = gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : new BufferedOutputStream(out, EXPORT_BUFFER_SIZE)) {
+                switch (format) {
+                    case CSV -> exportCsv(accountId, stream);
+                    case NDJSON -> exportNdjson(accountId, stream);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private void exportCsv(UUID accountId, OutputStream stream) throws IOException {
+        var writer = new OutputStreamWriter(stream, UTF_8);
+        // the column names are the statement import defaults, an export can be imported back as is
+        writer.write("expense_id,account_id,category_id,creation_timestamp,date,amount,currency,payment_type,description\n");
+        exportExpensesUseCase.export(accountId, expense -> {
+            try {
+                writer.append(expense.id().toString()).append(',')
+                        .append(expense.accountId().toString()).append(',')
+                        .append(expense.categoryId().toString()).append(',')
+                        .append(expense.creationTimestamp().toString()).append(',')
+                        .append(expense.expenseDate().toString()).append(',')
+                        .append(expense.amount().toPlainString()).append(',')
+                        .append(expense.amount().currency().getCurrencyCode()).append(',')
+                        .append(expense.paymentType().value).append(',')
+                        .append(csvField(expense.description())).append('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void exportNdjson(UUID accountId, OutputStream stream) throws IOException {
+        try (var writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(stream)) {
+            exportExpensesUseCase.export(accountId, expense -> {
+                try {
+                    writer.write(toResource(expense));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads the items one by one from a JSON array or NDJSON body and creates them in chunks of
+     * {@code expenses.batch.chunk-size}, one transaction per chunk. The per-item results are streamed back as NDJSON
+     * once each chunk completes, so memory use does not depend on the payload size.
+     */
+    @PostMapping(path = "/batch", consumes = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE}, produces = APPLICATION_NDJSON_VALUE)
+    @Override
+    public void createAll(InputStream body, HttpServletResponse response) throws IOException {
+        response.setStatus(OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+
+        try (var items = objectMapper.readerFor(ExpenseResource.class).<ExpenseResource>readValues(body);
+             var results = objectMapper.writer().withRootValueSeparator("\n").writeValues(response.getOutputStream())) {
+
+            var chunk = new ArrayList<BatchItem>(chunkSize);
+            for (var index = 0; ; index++) {
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    chunk.add(toBatchItem(index, items.nextValue()));
+                } catch (JsonMappingException e) {
+                    // the item cannot be bound, the iterator skips to the next one
+                    chunk.add(new BatchItem(index, null, ExpenseBatchResult.of(index, ApiErrorResponse.badRequest("Malformed JSON item", e.getOriginalMessage()))));
+                } catch (JsonProcessingException e) {
+                    // the body is not well-formed past this point
+                    chunk.add(new BatchItem(index, null, ExpenseBatchResult.of(index, ApiErrorResponse.badRequest("Malformed JSON request", e.getOriginalMessage()))));
+                    break;
+                }
+
+                if (chunk.size() == chunkSize) {
+                    write(createAll(chunk), results);
+                    chunk.clear();
+                }
+            }
+            write(createAll(chunk), results);
+        }
+    }
+
+    /**
+     * Imports a CSV bank statement of the account in a single transaction, the statement columns are mapped to the
+     * expense fields by their header names.
+     */
+    @Override
+    @PostMapping(path = "/import", consumes = TEXT_CSV_VALUE, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importStatement(@RequestParam UUID accountId,
+                                             @RequestParam UUID categoryId,
+                                             @RequestParam(defaultValue = "date") String dateColumn,
+                                             @RequestParam(defaultValue = "amount") String amountColumn,
+                                             @RequestParam(defaultValue = "description") String descriptionColumn,
+                                             @RequestParam(defaultValue = "payment_type") String paymentTypeColumn,
+                                             @RequestParam(defaultValue = "category_id") String categoryColumn,
+                                             @RequestParam(defaultValue = "currency") String currencyColumn,
+                                             InputStream statement) {
+        var cmd = ImportStatementCommand.builder()
+                .accountId(accountId)
+                .categoryId(categoryId)
+                .statement(new InputStreamReader(statement, UTF_8))
+                .dateColumn(dateColumn)
+                .amountColumn(amountColumn)
+                .descriptionColumn(descriptionColumn)
+                .paymentTypeColumn(paymentTypeColumn)
+                .categoryColumn(categoryColumn)
+                .currencyColumn(currencyColumn)
+                .build();
+
+        return importStatementUseCase.importStatement(cmd)
+                .fold(ApiErrorResponse::of,
+                        result -> ResponseEntity.ok(new StatementImportResource(result.rows(), result.imported(), result.rejected())));
+    }
+
+    private BatchItem toBatchItem(int index, ExpenseResource resource) {
+        try {
+            return new BatchItem(index, toCommand(resource), null);
+        } catch (ConstraintViolationException ex) {
+            var apiErrors = ex.getConstraintViolations().stream()
+                    .map(c -> new ApiErrorField(c.getPropertyPath().toString(), c.getMessage(), c.getInvalidValue()))
+                    .toList();
+            return new BatchItem(index, null, ExpenseBatchResult.of(index, ApiErrorResponse.unprocessableEntity(apiErrors, "Schema validation failure")));
+        }
+    }
+
+    private List<ExpenseBatchResult> createAll(List<BatchItem> chunk) {
+        var cmds = chunk.stream()
+                .filter(item -> item.cmd() != null)
+                .map(BatchItem::cmd)
+                .toList();
+
+        var results = new ArrayList<ExpenseBatchResult>(chunk.size());
+        try {
+            var outcomes = (cmds.isEmpty() ? List.<Either<Failure, Expense>>of() : createExpenseUseCase.createAll(cmds)).iterator();
+            for (var item : chunk) {
+                if (item.result() != null) {
+                    results.add(item.result());
+                    continue;
+                }
+                results.add(outcomes.next().fold(
+                        failure -> ExpenseBatchResult.of(item.index(), ApiErrorResponse.of(failure)),
+                        expense -> new ExpenseBatchResult(item.index(), CREATED.value(), toResource(expense), null)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Expenses batch chunk creation failed", e);
+            results.clear();
+            chunk.forEach(item -> results.add(item.result() != null ? item.result()
+                    : ExpenseBatchResult.of(item.index(), ApiErrorResponse.internalServerError("An unexpected error occurred", e.getMessage()))));
+        }
+        return results;
+    }
+
+    private static void write(List<ExpenseBatchResult> results, SequenceWriter writer) throws IOException {
+        for (var result : results) {
+            writer.write(result);
+        }
+        writer.flush();
+    }
+
+    private static CreateExpenseCommand toCommand(ExpenseResource resource) {
+        return CreateExpenseCommand.builder()
                 .accountId(resource.accountId())
                 .categoryId(resource.categoryId())
                 .amount(resource.amount())
+                .currency(resource.currency())
                 .expenseDate(resource.expenseDate())
                 .paymentType(resource.paymentType())
                 .description(resource.description())
                 .build();
+    }
 
-        var expense = createExpenseUseCase.create(cmd);
-        return created(fromCurrentRequest().path("/{id}").build(expense.getId()))
-                .body(ExpenseResource.builder()
-                        .expenseId(expense.getId().id())
-                        .accountId(expense.getAccount().id())
-                        .categoryId(cmd.categoryId)
-                        .creationTimestamp(expense.getCreationTimestamp())
-                        .amount(expense.getAmountNumber())
-                        .currency(expense.getCurrencyCode())
-                        .paymentType(expense.getPaymentType().value)
-                        .expenseDate(expense.getExpenseDate())
-                        .description(expense.getDescription())
-                        .build());
-    }
-
-    @Builder
+    private static MonthlySpendResource toResource(UUID accountId, YearMonth month, List<MonthlyCategorySpend> spends) {
+        return new MonthlySpendResource(accountId, month, spends.stream()
+                .map(spend -> new CategorySpendResource(spend.categoryId(), spend.total(), spend.count()))
+                .toList());
+    }
+
+    private static ExpenseResource toResource(ExpenseView expense) {
+        return ExpenseResource.builder()
+                .expenseId(expense.id())
+                .accountId(expense.accountId())
+                .categoryId(expense.categoryId())
+                .creationTimestamp(expense.creationTimestamp())
+                .amount(expense.amount().toBigDecimal())
+                .currency(expense.amount().currency().getCurrencyCode())
+                .paymentType(expense.paymentType().value)
+                .expenseDate(expense.expenseDate())
+                .description(expense.description())
+                .build();
+    }
+
+    private static ExpenseResource toResource(Expense expense) {
+        return ExpenseResource.builder()
+                .expenseId(expense.getId().id())
+                .accountId(expense.getAccount().id())
+                .categoryId(expense.getCategory().id())
+                .creationTimestamp(expense.getCreationTimestamp())
+                .amount(expense.getAmountNumber())
+                .currency(expense.getCurrencyCode())
+                .paymentType(expense.getPaymentType().value)
+                .expenseDate(expense.getExpenseDate())
+                .description(expense.getDescription())
+                .build();
+    }
+
+    private static BudgetWarningResource toResource(BudgetStatus status) {
+        return new BudgetWarningResource(status.month(), status.limit(), status.spent(), status.unconverted());
+    }
+
+    @Builder(toBuilder = true)
     record ExpenseResource(UUID expenseId,
                            UUID accountId,
                            UUID categoryId,
@@ -61,5 +463,51 @@ final class ExpenseController implements ExpenseControllerDoc {
                            String currency,
                            String paymentType,
                            LocalDate expenseDate,
-                           String description) {}
+                           String description,
+                           BudgetWarningResource budgetWarning) {}
+
+    /**
+     * The budget of the expense category exceeded over the expense month, with the spend of the month so far: converted
+     * to the currency of the limit, and in the currencies without an exchange rate.
+     */
+    record BudgetWarningResource(YearMonth month, Amount limit, Amount spent, List<Amount> unconverted) {}
+
+    /**
+     * A page of expenses and the cursor of the next page, absent on the last page.
+     */
+    record ExpensePageResource(List<ExpenseResource> expenses, String next) {}
+
+    /**
+     * The spend of an account over a month, per category.
+     */
+    record MonthlySpendResource(UUID accountId, YearMonth month, List<CategorySpendResource> categories) {}
+
+    record CategorySpendResource(UUID categoryId, Amount total, long count) {}
+
+    /**
+     * The spend of an account per category or month, and currency.
+     */
+    record SpendAnalyticsResource(UUID accountId, List<SpendGroupResource> groups) {}
+
+    record SpendGroupResource(UUID categoryId, YearMonth month, Amount total, long count) {}
+
+    /**
+     * The outcome of a single item of a batch, either the created expense or the error.
+     */
+    record ExpenseBatchResult(int index, int status, ExpenseResource expense, ApiErrorResponse error) {
+
+        static ExpenseBatchResult of(int index, ResponseEntity<ApiErrorResponse> error) {
+            return new ExpenseBatchResult(index, error.getStatusCode().value(), null, error.getBody());
+        }
+    }
+
+    /**
+     * The summary of a statement import, the rejected rows are the ones not imported.
+     */
+    record StatementImportResource(long rows, long imported, long rejected) {}
+
+    /**
+     * An item read from a batch, either a valid command or an already resolved result.
+     */
+    private record BatchItem(int index, CreateExpenseCommand cmd, ExpenseBatchResult result) {}
 }
@@ -1,25 +1,43 @@
 package io.spentify.expenses.web;
 
+import io.spentify.expenses.web.ExpenseController.ExpenseBatchResult;
+import io.spentify.expenses.web.ExpenseController.ExpensePageResource;
 import io.spentify.expenses.web.ExpenseController.ExpenseResource;
+import io.spentify.expenses.web.ExpenseController.MonthlySpendResource;
+import io.spentify.expenses.web.ExpenseController.SpendAnalyticsResource;
+import io.spentify.expenses.web.ExpenseController.StatementImportResource;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.UUID;
 
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 public interface ExpenseControllerDoc {
 
     String TAG = "expenses";
 
     @Operation(summary = "Add a new expense in the Spentify",
-            description = "Operation to add a new expense for the current logged-in account, the expense must be attached to an expense category",
+            description = "Operation to add a new expense for the current logged-in account, the expense must be attached to an expense category. "
+                    + "The 'budgetWarning' of the response is present when the expense takes the spend of the month over the budget of its category",
             security = {@SecurityRequirement(name = "openId")},
             tags = {TAG})
     @ApiResponses(value = {
@@ -36,5 +54,155 @@ public interface ExpenseControllerDoc {
     })
     ResponseEntity<?> create(@RequestBody(description = "Expense Resource to be created", required = true) ExpenseResource resource);
 
+    @Operation(summary = "List the expenses of an account in the Spentify",
+            description = "Operation to list the expenses of an account newest first, optionally filtered by expense date range, category "
+                    + "and payment type. Pages are addressed by cursor, the 'next' cursor of a page gets the following one and is absent on the last page",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ExpensePageResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> list(@Parameter(description = "Account owning the expenses") UUID accountId,
+                           @Parameter(description = "Earliest expense date, inclusive") LocalDate from,
+                           @Parameter(description = "Latest expense date, inclusive") LocalDate to,
+                           @Parameter(description = "Category of the expenses") UUID categoryId,
+                           @Parameter(description = "Payment type of the expenses, 'cash' or 'card'") String paymentType,
+                           @Parameter(description = "Page size, from 1 to 100") int limit,
+                           @Parameter(description = "The 'next' cursor of the previous page") String cursor);
+
+    @Operation(summary = "Search the expenses of an account in the Spentify",
+            description = "Operation to find the expenses of an account whose description contains the words of the query, or the query "
+                    + "itself as a substring of at least three characters, most relevant first. Pages are addressed by cursor, the 'next' "
+                    + "cursor of a page gets the following one and is absent on the last page",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ExpensePageResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> search(@Parameter(description = "Account owning the expenses") UUID accountId,
+                             @Parameter(description = "Words or part of the description, up to 200 characters") String q,
+                             @Parameter(description = "Page size, from 1 to 100") int limit,
+                             @Parameter(description = "The 'next' cursor of the previous page") String cursor);
+
+    @Operation(summary = "Summarize the spend of an account in the Spentify",
+            description = "Operation to get the total and the number of expenses of an account per category and currency over a month. "
+                    + "With a currency, the totals of every category are converted to it at the exchange rates effective on the last day of the month",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = MonthlySpendResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Exchange rate not found",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> summary(@Parameter(description = "Account owning the expenses") UUID accountId,
+                              @Parameter(description = "Month of the expenses, as yyyy-MM") YearMonth month,
+                              @Parameter(description = "ISO 4217 currency to convert the totals to, per currency totals if absent") Currency currency);
+
+    @Operation(summary = "Analyze the spend of an account in the Spentify",
+            description = "Operation to get the total and the number of expenses of an account per category or month, and currency, "
+                    + "optionally filtered by expense date range, category and payment type, as the dashboards show them",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = SpendAnalyticsResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> analytics(@Parameter(description = "Account owning the expenses") UUID accountId,
+                                @Parameter(description = "Earliest expense date, inclusive") LocalDate from,
+                                @Parameter(description = "Latest expense date, inclusive") LocalDate to,
+                                @Parameter(description = "Category of the expenses") UUID categoryId,
+                                @Parameter(description = "Payment type of the expenses, 'cash' or 'card'") String paymentType,
+                                @Parameter(description = "Grouping of the expenses, 'category' or 'month'") String groupBy);
+
+    @Operation(summary = "Export the expenses of an account from the Spentify",
+            description = "Operation to download every expense of an account, newest first, as CSV or newline-delimited JSON. "
+                    + "The response is streamed as the expenses are read and is gzip compressed when the client accepts it. "
+                    + "The CSV columns follow the statement import defaults, so an export can be imported back",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation", content = {
+                    @Content(mediaType = ExpenseController.TEXT_CSV_VALUE),
+                    @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ExpenseResource.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> export(@Parameter(description = "Account owning the expenses") UUID accountId,
+                                                 @Parameter(description = "Export format, 'csv' or 'ndjson'") ExportFormat format,
+                                                 @Parameter(hidden = true) String acceptEncoding);
+
+    @Operation(summary = "Add many expenses in the Spentify",
+            description = "Operation to add many expenses at once, the body is a JSON array or newline-delimited JSON of expense resources. "
+                    + "Items are created in chunks, each in its own transaction, and a result per item is streamed back as newline-delimited JSON, "
+                    + "holding the item index, its status and either the created expense or the error",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation, see the status of every item",
+                    content = @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ExpenseBatchResult.class))),
+            @ApiResponse(responseCode = "415", description = "Unsupported Media Type",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    void createAll(@RequestBody(description = "Expense Resources to be created", required = true,
+            content = {@Content(mediaType = APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = ExpenseResource.class))),
+                    @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ExpenseResource.class))})
+                   InputStream body, HttpServletResponse response) throws IOException;
 
+    @Operation(summary = "Import a bank statement in the Spentify",
+            description = "Operation to import every row of a CSV bank statement as an expense of the account in a single pass, "
+                    + "the columns are mapped by header name. Rows with an invalid date, a non-positive amount, an unknown payment type "
+                    + "or a category not owned by the account are rejected",
+            security = {@SecurityRequirement(name = "openId")},
+            tags = {TAG})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful Operation",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = StatementImportResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid Input",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not found Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Validation Failure",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> importStatement(@Parameter(description = "Account owning the expenses") UUID accountId,
+                                      @Parameter(description = "Category of the rows without a category column value") UUID categoryId,
+                                      @Parameter(description = "Name of the expense date column") String dateColumn,
+                                      @Parameter(description = "Name of the amount column") String amountColumn,
+                                      @Parameter(description = "Name of the description column, optional") String descriptionColumn,
+                                      @Parameter(description = "Name of the payment type column, optional") String paymentTypeColumn,
+                                      @Parameter(description = "Name of the category id column, optional") String categoryColumn,
+                                      @Parameter(description = "Name of the ISO 4217 currency column, optional, EUR if absent") String currencyColumn,
+                                      @RequestBody(description = "CSV bank statement with a header line", required = true,
+                                              content = @Content(mediaType = ExpenseController.TEXT_CSV_VALUE)) InputStream statement);
 }
@@ -0,0 +1,43 @@
+package io.spentify.expenses.web;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * The formats an account expenses export can be written in.
+ */
+enum ExportFormat {
+
+    CSV("csv", MediaType.parseMediaType(ExpenseController.TEXT_CSV_VALUE)),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    final String value;
+    final MediaType mediaType;
+
+    ExportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    static ExportFormat fromValue(String value) {
+        for (var b : values()) {
+            if (b.value.equalsIgnoreCase(value))
+                return b;
+        }
+
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    /**
+     * Binds the {@code format} request parameter case-insensitively, unknown values are rejected as a type mismatch.
+     */
+    @Component
+    static final class FromString implements Converter<String, ExportFormat> {
+
+        @Override
+        public ExportFormat convert(String source) {
+            return fromValue(source.trim());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS processed_event
+(
+    aggregate_id        VARCHAR(255) NOT NULL,
+    type                VARCHAR(255) NOT NULL,
+    processed_timestamp TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (aggregate_id, type)
+);
@@ -0,0 +1,2 @@
+-- serves the keyset pagination of an account's expenses, newest first, see ExpenseQueries#findPage
+CREATE INDEX IF NOT EXISTS expenses_account_id_expense_date_id_idx ON expenses (account_id, expense_date DESC, id DESC);
@@ -0,0 +1,11 @@
+-- spend per account, month and category, maintained incrementally with every expense insert, see MonthlySpends
+CREATE TABLE IF NOT EXISTS monthly_category_spend
+(
+    account_id  UUID           NOT NULL,
+    month       DATE           NOT NULL,
+    category_id UUID           NOT NULL,
+    currency    VARCHAR(3)     NOT NULL,
+    total       DECIMAL(19, 4) NOT NULL,
+    count       BIGINT         NOT NULL,
+    PRIMARY KEY (account_id, month, category_id, currency)
+);
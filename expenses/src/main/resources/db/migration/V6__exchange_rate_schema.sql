@@ -0,0 +1,8 @@
+-- units of currency per unit of the reference currency, effective from effective_date, see ExchangeRateStore
+CREATE TABLE IF NOT EXISTS exchange_rate
+(
+    currency       VARCHAR(3)      NOT NULL,
+    effective_date DATE            NOT NULL,
+    rate           DECIMAL(19, 10) NOT NULL CHECK (rate > 0),
+    PRIMARY KEY (currency, effective_date)
+);
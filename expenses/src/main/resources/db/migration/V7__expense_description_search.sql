@@ -0,0 +1,13 @@
+-- search of an account's expenses by description, see ExpenseQueries#search
+-- btree_gin lets the account_id key share the GIN indexes, so a search only reads the matches of one account
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- word matches, the 'simple' configuration neither stems nor drops stop words, descriptions are in any language
+ALTER TABLE expenses
+    ADD COLUMN IF NOT EXISTS description_search TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('simple', coalesce(description, ''))) STORED;
+CREATE INDEX IF NOT EXISTS expenses_account_id_description_search_idx ON expenses USING GIN (account_id, description_search);
+
+-- substring matches, the trigrams serve ILIKE '%...%' patterns of at least three characters
+CREATE INDEX IF NOT EXISTS expenses_account_id_description_trgm_idx ON expenses USING GIN (account_id, description gin_trgm_ops);
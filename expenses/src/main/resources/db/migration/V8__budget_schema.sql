@@ -0,0 +1,12 @@
+-- monthly spend limit of an account in a category, at most one per category, see Budgets
+CREATE TABLE IF NOT EXISTS budget
+(
+    category_id        UUID PRIMARY KEY,
+    account_id         UUID           NOT NULL,
+    monthly_limit      DECIMAL(19, 4) NOT NULL CHECK (monthly_limit > 0),
+    currency           VARCHAR(3)     NOT NULL,
+    creation_timestamp TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (category_id) REFERENCES expense_category (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS budget_account_id_idx ON budget (account_id);
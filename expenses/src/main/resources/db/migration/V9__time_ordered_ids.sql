@@ -0,0 +1,16 @@
+-- version 7 UUID for rows inserted without an id, such as statement imports, time-ordered as the ids assigned by
+-- Identifiers: the Unix milliseconds, then the fraction of the millisecond in 12 bits rather than random ones, so the
+-- ids of a millisecond increase too, over the random tail of a version 4 UUID
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS
+$$
+DECLARE
+    micros BIGINT := (extract(EPOCH FROM clock_timestamp()) * 1000000)::BIGINT;
+BEGIN
+    RETURN encode(overlay(uuid_send(gen_random_uuid())
+                          PLACING int8send(((micros / 1000) << 16) | x'7000'::BIGINT | (micros % 1000 * 4096 / 1000))
+                          FROM 1 FOR 8), 'hex')::UUID;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+ALTER TABLE expenses ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE expense_category ALTER COLUMN id SET DEFAULT uuid_generate_v7();
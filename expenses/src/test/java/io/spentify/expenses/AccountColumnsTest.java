@@ -0,0 +1,179 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.SpendAnalyticsUseCase.Grouping;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static io.spentify.expenses.Payment.Type.CARD;
+import static io.spentify.expenses.Payment.Type.CASH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class AccountColumnsTest {
+
+    private static final UUID FOOD = UUID.randomUUID();
+    private static final UUID FUN = UUID.randomUUID();
+
+    AccountColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new AccountColumns(0);
+        columns.add(LocalDate.of(2024, 1, 5), Amount.parse("10.50", "EUR"), FOOD, CARD);
+        columns.add(LocalDate.of(2024, 1, 20), Amount.parse("4.50", "EUR"), FOOD, CASH);
+        columns.add(LocalDate.of(2024, 1, 31), Amount.parse("20", "USD"), FOOD, CARD);
+        columns.add(LocalDate.of(2024, 2, 1), Amount.parse("7", "EUR"), FUN, CARD);
+        columns.add(LocalDate.of(2024, 3, 15), Amount.parse("3", "EUR"), FOOD, CARD);
+        columns.loaded(1);
+    }
+
+    @Test
+    @DisplayName("should aggregate every expense per category and currency")
+    void aggregatePerCategory() {
+        // when
+        var groups = columns.aggregate(null, null, null, null, Grouping.CATEGORY);
+
+        // then
+        assertThat(groups).containsExactlyInAnyOrder(
+                new SpendGroup(FOOD, null, Amount.parse("18", "EUR"), 3),
+                new SpendGroup(FOOD, null, Amount.parse("20", "USD"), 1),
+                new SpendGroup(FUN, null, Amount.parse("7", "EUR"), 1));
+    }
+
+    @Test
+    @DisplayName("should aggregate every expense per month and currency")
+    void aggregatePerMonth() {
+        // when
+        var groups = columns.aggregate(null, null, null, null, Grouping.MONTH);
+
+        // then
+        assertThat(groups).containsExactlyInAnyOrder(
+                new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("15", "EUR"), 2),
+                new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("20", "USD"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 2), Amount.parse("7", "EUR"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 3), Amount.parse("3", "EUR"), 1));
+    }
+
+    @Test
+    @DisplayName("should aggregate only the expenses in the date range, category and payment type")
+    void aggregateFiltered() {
+        // expect
+        assertThat(columns.aggregate(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 1), null, null, Grouping.CATEGORY))
+                .containsExactlyInAnyOrder(
+                        new SpendGroup(FOOD, null, Amount.parse("4.50", "EUR"), 1),
+                        new SpendGroup(FOOD, null, Amount.parse("20", "USD"), 1),
+                        new SpendGroup(FUN, null, Amount.parse("7", "EUR"), 1));
+        assertThat(columns.aggregate(null, null, FOOD, CARD, Grouping.MONTH))
+                .containsExactlyInAnyOrder(
+                        new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("10.50", "EUR"), 1),
+                        new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("20", "USD"), 1),
+                        new SpendGroup(null, YearMonth.of(2024, 3), Amount.parse("3", "EUR"), 1));
+        assertThat(columns.aggregate(null, null, null, CASH, Grouping.CATEGORY))
+                .containsExactly(new SpendGroup(FOOD, null, Amount.parse("4.50", "EUR"), 1));
+    }
+
+    @Test
+    @DisplayName("should aggregate nothing when no expense matches")
+    void aggregateNothing() {
+        // expect
+        assertThat(columns.aggregate(null, null, UUID.randomUUID(), null, Grouping.CATEGORY)).isEmpty();
+        assertThat(columns.aggregate(LocalDate.of(2025, 1, 1), null, null, null, Grouping.MONTH)).isEmpty();
+        assertThat(columns.aggregate(LocalDate.of(2024, 2, 2), LocalDate.of(2024, 3, 14), null, null, Grouping.MONTH)).isEmpty();
+        assertThat(columns.aggregate(null, null, FUN, CASH, Grouping.MONTH)).isEmpty();
+        assertThat(new AccountColumns(0).aggregate(null, null, null, null, Grouping.CATEGORY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should aggregate the expenses appended after the load")
+    void aggregateAppended() {
+        // given
+        var fun = Expense.builder()
+                .account(new AccountIdentifier(UUID.randomUUID()))
+                .category(new Category.CategoryIdentifier(FUN))
+                .amount(Amount.parse("1.25", "EUR"))
+                .paymentType(CASH)
+                .expenseDate(LocalDate.of(2023, 12, 31))
+                .build();
+
+        // when
+        columns.add(fun);
+
+        // then
+        assertThat(columns.size()).isEqualTo(6);
+        assertThat(columns.aggregate(null, null, FUN, null, Grouping.MONTH)).containsExactlyInAnyOrder(
+                new SpendGroup(null, YearMonth.of(2023, 12), Amount.parse("1.25", "EUR"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 2), Amount.parse("7", "EUR"), 1));
+    }
+
+    @Test
+    @DisplayName("should weigh at least the columns of every expense")
+    void weightGrows() {
+        // when
+        for (var i = 0; i < 1_000; i++) {
+            columns.add(LocalDate.of(2024, 4, 1), Amount.parse("1", "EUR"), FOOD, CARD);
+        }
+
+        // then
+        assertThat(columns.weight()).isGreaterThan(1_005 * 18);
+    }
+
+    @Test
+    @DisplayName("should aggregate as a scan of every expense would")
+    void aggregateAsScan() {
+        // given
+        var random = new Random(42);
+        var categories = List.of(FOOD, FUN, UUID.randomUUID());
+        var currencies = List.of("EUR", "USD");
+        var rows = new ArrayList<Row>();
+        var columns = new AccountColumns(0);
+        for (var i = 0; i < 5_000; i++) {
+            var row = new Row(LocalDate.of(2023, 1, 1).plusDays(random.nextInt(730)),
+                    new Amount(random.nextLong(1, 1_000_000), Currency.getInstance(currencies.get(random.nextInt(2)))),
+                    categories.get(random.nextInt(3)), random.nextBoolean() ? CARD : CASH);
+            rows.add(row);
+            columns.add(row.date(), row.amount(), row.categoryId(), row.paymentType());
+        }
+        var from = LocalDate.of(2023, 3, 10);
+        var to = LocalDate.of(2024, 6, 20);
+
+        // expect
+        for (var grouping : Grouping.values()) {
+            assertThat(columns.aggregate(from, to, FUN, CARD, grouping))
+                    .containsExactlyInAnyOrderElementsOf(scan(rows, from, to, FUN, CARD, grouping));
+            assertThat(columns.aggregate(from, null, null, CASH, grouping))
+                    .containsExactlyInAnyOrderElementsOf(scan(rows, from, null, null, CASH, grouping));
+            assertThat(columns.aggregate(null, to, null, null, grouping))
+                    .containsExactlyInAnyOrderElementsOf(scan(rows, null, to, null, null, grouping));
+        }
+    }
+
+    private static List<SpendGroup> scan(List<Row> rows, LocalDate from, LocalDate to, UUID categoryId, Payment.Type paymentType, Grouping grouping) {
+        var groups = new HashMap<List<Object>, SpendGroup>();
+        rows.stream()
+                .filter(row -> from == null || !row.date().isBefore(from))
+                .filter(row -> to == null || !row.date().isAfter(to))
+                .filter(row -> categoryId == null || row.categoryId().equals(categoryId))
+                .filter(row -> paymentType == null || row.paymentType() == paymentType)
+                .forEach(row -> {
+                    var group = grouping == Grouping.CATEGORY
+                            ? new SpendGroup(row.categoryId(), null, row.amount(), 1)
+                            : new SpendGroup(null, YearMonth.from(row.date()), row.amount(), 1);
+                    groups.merge(List.of(grouping == Grouping.CATEGORY ? group.categoryId() : group.month(), row.amount().currency()), group,
+                            (a, b) -> new SpendGroup(a.categoryId(), a.month(), a.total().plus(b.total()), a.count() + b.count()));
+                });
+        return List.copyOf(groups.values());
+    }
+
+    private record Row(LocalDate date, Amount amount, UUID categoryId, Payment.Type paymentType) {}
+}
@@ -0,0 +1,86 @@
+package io.spentify.expenses;
+
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.*;
+
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Amount} against the Moneta {@link Money} it replaced, for parsing a database value, comparing and summing.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=AmountBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmountBenchmark {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final int SIZE = 1_000;
+
+    private final String text = "1234.5600";
+    private final Amount[] amounts = new Amount[SIZE];
+    private final Money[] monies = new Money[SIZE];
+
+    @Setup
+    public void setUp() {
+        var random = ThreadLocalRandom.current();
+        for (var i = 0; i < SIZE; i++) {
+            var value = BigDecimal.valueOf(random.nextLong(1, 100_000_000), Amount.SCALE);
+            amounts[i] = Amount.of(value, EUR);
+            monies[i] = Money.of(value, "EUR");
+        }
+    }
+
+    @Benchmark
+    public Amount parseAmount() {
+        return Amount.parse(text, EUR);
+    }
+
+    @Benchmark
+    public Money parseMoney() {
+        return Money.of(new BigDecimal(text), "EUR");
+    }
+
+    @Benchmark
+    public int compareAmount() {
+        var positive = 0;
+        for (var i = 1; i < SIZE; i++) {
+            positive += amounts[i].compareTo(amounts[i - 1]);
+        }
+        return positive;
+    }
+
+    @Benchmark
+    public int compareMoney() {
+        var positive = 0;
+        for (var i = 1; i < SIZE; i++) {
+            positive += monies[i].compareTo(monies[i - 1]);
+        }
+        return positive;
+    }
+
+    @Benchmark
+    public Amount sumAmount() {
+        var total = Amount.zero(EUR);
+        for (var amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public MonetaryAmount sumMoney() {
+        MonetaryAmount total = Money.zero(monies[0].getCurrency());
+        for (var money : monies) {
+            total = total.add(money);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,110 @@
+package io.spentify.expenses;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@Tag("unit")
+class AmountTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @ParameterizedTest
+    @CsvSource({
+            "12.5,        125000",
+            "-12.5,      -125000",
+            "+0.0001,          1",
+            "7,            70000",
+            ".25,           2500",
+            "10.50000,    105000",
+            "922337203685477.5807, 9223372036854775807"
+    })
+    @DisplayName("should parse plain decimals into ten-thousandths")
+    void parse(String text, long units) {
+        // when
+        var amount = Amount.parse(text, EUR);
+
+        // then
+        assertThat(amount).isEqualTo(new Amount(units, EUR));
+        assertThat(amount.toBigDecimal()).isEqualByComparingTo(text);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "1.2.3", "1e3", "12,5", "0.00001", "922337203685477.5808"})
+    @DisplayName("should reject malformed, too precise or overflowing decimals")
+    void parseInvalid(String text) {
+        // when
+        var thrown = catchThrowable(() -> Amount.parse(text, EUR));
+
+        // then
+        assertThat(thrown).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("should convert a big decimal exactly")
+    void ofBigDecimal() {
+        // when
+        var amount = Amount.of(new BigDecimal("12.3456"), "EUR");
+
+        // then
+        assertThat(amount).isEqualTo(new Amount(123456, EUR));
+        assertThat(catchThrowable(() -> Amount.of(new BigDecimal("0.00001"), EUR)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"125000, 12.5000", "-125000, -12.5000", "1, 0.0001", "-1, -0.0001", "0, 0.0000", "70000, 7.0000"})
+    @DisplayName("should format with four fraction digits")
+    void toPlainString(long units, String text) {
+        // expect
+        assertThat(new Amount(units, EUR).toPlainString()).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("should add and compare amounts of the same currency")
+    void plusAndCompare() {
+        // given
+        var small = Amount.parse("4.25", EUR);
+        var large = Amount.parse("10.50", EUR);
+
+        // expect
+        assertThat(small.plus(large)).isEqualTo(Amount.parse("14.75", EUR));
+        assertThat(small).isLessThan(large);
+        assertThat(small.isPositive()).isTrue();
+        assertThat(Amount.zero(EUR).isPositive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should refuse to add or compare amounts of different currencies")
+    void currencyMismatch() {
+        // given
+        var eur = Amount.parse("1", EUR);
+        var usd = Amount.parse("1", "USD");
+
+        // expect
+        assertThat(catchThrowable(() -> eur.plus(usd))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> eur.compareTo(usd))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should fail instead of wrapping around on overflow")
+    void overflow() {
+        // given
+        var max = new Amount(Long.MAX_VALUE, EUR);
+
+        // when
+        var thrown = catchThrowable(() -> max.plus(Amount.parse("0.0001", EUR)));
+
+        // then
+        assertThat(thrown).isInstanceOf(ArithmeticException.class);
+    }
+}
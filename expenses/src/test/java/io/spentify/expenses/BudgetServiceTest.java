@@ -0,0 +1,154 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.BudgetUseCase.SetBudgetCommand;
+import io.spentify.expenses.Category.CategoryIdentifier;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class BudgetServiceTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+    private static final CategoryIdentifier CATEGORY = new CategoryIdentifier(CATEGORY_ID);
+
+    Budgets budgets;
+    Categories categories;
+    BudgetTracker tracker;
+    ApplicationEventPublisher events;
+    BudgetService service;
+
+    @BeforeEach
+    void setUp() {
+        budgets = Mockito.mock(Budgets.class);
+        categories = Mockito.mock(Categories.class);
+        tracker = Mockito.mock(BudgetTracker.class);
+        events = Mockito.mock(ApplicationEventPublisher.class);
+        service = new BudgetService(budgets, categories, tracker, events, new FailureCounter(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("should create the budget of a category of the account")
+    void createBudget() {
+        // given
+        when(categories.findAccountById(CATEGORY)).thenReturn(Optional.of(new AccountIdentifier(ACCOUNT_ID)));
+        when(budgets.findById(CATEGORY)).thenReturn(Optional.empty());
+        when(budgets.save(any(Budget.class))).then(invocation -> invocation.getArgument(0));
+
+        // when
+        var result = service.set(command("250.5", "USD"));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get().getMonthlyLimit()).isEqualTo(Amount.parse("250.5", "USD"));
+
+        // and
+        verify(events).publishEvent(new BudgetChanged(CATEGORY));
+    }
+
+    @Test
+    @DisplayName("should replace the limit of the existing budget, in EUR by default")
+    void replaceLimit() {
+        // given
+        var budget = new Budget(CATEGORY, new AccountIdentifier(ACCOUNT_ID), Amount.parse("100", "USD"));
+        when(categories.findAccountById(CATEGORY)).thenReturn(Optional.of(new AccountIdentifier(ACCOUNT_ID)));
+        when(budgets.findById(CATEGORY)).thenReturn(Optional.of(budget));
+
+        // when
+        var result = service.set(command("80", null));
+
+        // then
+        assertThat(result.get()).isSameAs(budget);
+        assertThat(budget.getMonthlyLimit()).isEqualTo(Amount.parse("80", "EUR"));
+        verify(budgets, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should fail when the category is not one of the account")
+    void failWhenCategoryAccountNotFound() {
+        // given
+        when(categories.findAccountById(CATEGORY)).thenReturn(Optional.of(new AccountIdentifier(UUID.randomUUID())));
+
+        // when
+        var result = service.set(command("80", null));
+
+        // then
+        assertThat(result.getLeft()).isInstanceOf(Failure.NotFoundFailure.class);
+        verify(events, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("should fail command creation when the limit is not positive")
+    void failWhenLimitNotPositive() {
+        // when
+        var thrown = catchThrowable(() -> command("0", null));
+
+        // then
+        assertThat(thrown).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    @DisplayName("should fail deletion when the budget is of another account")
+    void failDeleteWhenBudgetOfAnotherAccount() {
+        // given
+        when(budgets.findById(CATEGORY)).thenReturn(Optional.of(
+                new Budget(CATEGORY, new AccountIdentifier(UUID.randomUUID()), Amount.parse("100", "EUR"))));
+
+        // when
+        var result = service.delete(ACCOUNT_ID, CATEGORY_ID);
+
+        // then
+        assertThat(result.getLeft()).isInstanceOf(Failure.NotFoundFailure.class);
+        verify(budgets, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("should find the status of the expense budget only when exceeded")
+    void findExceeded() {
+        // given
+        var expense = Expense.builder()
+                .account(new AccountIdentifier(ACCOUNT_ID))
+                .category(CATEGORY)
+                .amount(Amount.parse("10", "EUR"))
+                .paymentType(Payment.Type.CASH)
+                .expenseDate(LocalDate.of(2024, 1, 15))
+                .build();
+        var exceeded = new BudgetStatus(CATEGORY_ID, YearMonth.of(2024, 1), Amount.parse("100", "EUR"), Amount.parse("100.01", "EUR"), List.of());
+        var within = new BudgetStatus(CATEGORY_ID, YearMonth.of(2024, 1), Amount.parse("100", "EUR"), Amount.parse("100", "EUR"), List.of());
+
+        // expect
+        when(tracker.status(expense.getAccount(), CATEGORY, YearMonth.of(2024, 1))).thenReturn(Optional.of(exceeded));
+        assertThat(service.findExceeded(expense)).hasValue(exceeded);
+        when(tracker.status(expense.getAccount(), CATEGORY, YearMonth.of(2024, 1))).thenReturn(Optional.of(within));
+        assertThat(service.findExceeded(expense)).isEmpty();
+    }
+
+    private static SetBudgetCommand command(String monthlyLimit, String currency) {
+        return SetBudgetCommand.builder()
+                .accountId(ACCOUNT_ID)
+                .categoryId(CATEGORY_ID)
+                .monthlyLimit(new BigDecimal(monthlyLimit))
+                .currency(currency)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.Category.CategoryIdentifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class BudgetTrackerTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth MONTH = YearMonth.of(2024, 1);
+    private static final AccountIdentifier ACCOUNT = new AccountIdentifier(UUID.randomUUID());
+    private static final CategoryIdentifier CATEGORY = new CategoryIdentifier(UUID.randomUUID());
+
+    Budgets budgets;
+    Expenses expenses;
+    ExchangeRateStore exchangeRates;
+    BudgetTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        budgets = Mockito.mock(Budgets.class);
+        expenses = Mockito.mock(Expenses.class);
+        exchangeRates = Mockito.mock(ExchangeRateStore.class);
+        tracker = new BudgetTracker(budgets, expenses, exchangeRates, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
+        when(budgets.findById(CATEGORY)).thenReturn(Optional.of(new Budget(CATEGORY, ACCOUNT, Amount.parse("100", EUR))));
+        when(expenses.findMonthlySpend(ACCOUNT, MONTH, CATEGORY)).thenReturn(List.of(
+                new MonthlyCategorySpend(CATEGORY.id(), Amount.parse("60", EUR), 2)));
+        when(exchangeRates.current()).thenReturn(ExchangeRates.builder(EUR)
+                .rate(USD, LocalDate.of(2024, 1, 1), new BigDecimal("2"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("should read the spend of the month once and count the expenses created afterwards")
+    void countCreatedAfterLoad() {
+        // given
+        assertThat(tracker.status(ACCOUNT, CATEGORY, MONTH)).hasValue(status("60"));
+
+        // when
+        tracker.on(new ExpensesCreated(List.of(expense("30", EUR), expense("40", USD)), System.nanoTime()));
+
+        // then
+        var status = tracker.status(ACCOUNT, CATEGORY, MONTH);
+        assertThat(status).hasValue(status("110"));
+        assertThat(status.get().exceeded()).isTrue();
+
+        // and
+        verify(expenses, times(1)).findMonthlySpend(ACCOUNT, MONTH, CATEGORY);
+        verify(budgets, times(1)).findById(CATEGORY);
+    }
+
+    @Test
+    @DisplayName("should keep apart the spend in a currency without an exchange rate")
+    void keepUnconvertedSpend() {
+        // given
+        var gbp = Currency.getInstance("GBP");
+        tracker.status(ACCOUNT, CATEGORY, MONTH);
+
+        // when
+        tracker.on(new ExpensesCreated(List.of(expense("30", gbp), expense("15", gbp)), System.nanoTime()));
+
+        // then
+        var status = tracker.status(ACCOUNT, CATEGORY, MONTH);
+        assertThat(status).hasValue(status("60", Amount.parse("45", gbp)));
+        assertThat(status.get().complete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should read the spend of the month again when its load overlaps the commit of the created expenses")
+    void reloadWhenLoadOverlapsCommit() {
+        // given
+        var published = System.nanoTime();
+        tracker.status(ACCOUNT, CATEGORY, MONTH);
+
+        // when
+        tracker.on(new ExpensesCreated(List.of(expense("30", EUR)), published));
+
+        // then
+        assertThat(tracker.status(ACCOUNT, CATEGORY, MONTH)).hasValue(status("60"));
+        verify(expenses, times(2)).findMonthlySpend(ACCOUNT, MONTH, CATEGORY);
+    }
+
+    @Test
+    @DisplayName("should read the spend of the month again when expenses are created while it loads")
+    void reloadWhenCreatedWhileLoading() {
+        // given
+        when(expenses.findMonthlySpend(ACCOUNT, MONTH, CATEGORY)).thenAnswer(invocation -> {
+            tracker.on(new ExpensesCreated(List.of(expense("30", EUR)), System.nanoTime()));
+            return List.of(new MonthlyCategorySpend(CATEGORY.id(), Amount.parse("60", EUR), 2));
+        }).thenReturn(List.of(new MonthlyCategorySpend(CATEGORY.id(), Amount.parse("90", EUR), 3)));
+
+        // when
+        tracker.status(ACCOUNT, CATEGORY, MONTH);
+
+        // then
+        assertThat(tracker.status(ACCOUNT, CATEGORY, MONTH)).hasValue(status("90"));
+        verify(expenses, times(2)).findMonthlySpend(ACCOUNT, MONTH, CATEGORY);
+    }
+
+    @Test
+    @DisplayName("should not track the expenses of months never checked")
+    void ignoreUntrackedMonths() {
+        // when
+        tracker.on(new ExpensesCreated(List.of(expense("30", EUR)), System.nanoTime()));
+
+        // then
+        assertThat(tracker.status(ACCOUNT, CATEGORY, MONTH)).hasValue(status("60"));
+    }
+
+    @Test
+    @DisplayName("should read the budget and the spends again once changed or imported")
+    void reloadWhenChanged() {
+        // given
+        tracker.status(ACCOUNT, CATEGORY, MONTH);
+
+        // when
+        tracker.on(new BudgetChanged(CATEGORY));
+        tracker.on(new StatementImported(ACCOUNT));
+        tracker.status(ACCOUNT, CATEGORY, MONTH);
+
+        // then
+        verify(budgets, times(2)).findById(CATEGORY);
+        verify(expenses, times(2)).findMonthlySpend(ACCOUNT, MONTH, CATEGORY);
+    }
+
+    @Test
+    @DisplayName("should find no status when the category has no budget of the account")
+    void noStatusWithoutBudget() {
+        // expect
+        assertThat(tracker.status(new AccountIdentifier(UUID.randomUUID()), CATEGORY, MONTH)).isEmpty();
+        assertThat(tracker.status(ACCOUNT, new CategoryIdentifier(UUID.randomUUID()), MONTH)).isEmpty();
+    }
+
+    private static BudgetStatus status(String spent, Amount... unconverted) {
+        return new BudgetStatus(CATEGORY.id(), MONTH, Amount.parse("100", EUR), Amount.parse(spent, EUR), List.of(unconverted));
+    }
+
+    private static Expense expense(String amount, Currency currency) {
+        return Expense.builder()
+                .account(ACCOUNT)
+                .category(CATEGORY)
+                .amount(Amount.parse(amount, currency))
+                .paymentType(Payment.Type.CARD)
+                .expenseDate(MONTH.atDay(15))
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest(classes = TestExpensesApplication.class)
+class CategoriesTest extends TestContainersSetup {
+
+    @Autowired
+    Categories categories;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(Categories.OWNERS_CACHE).clear();
+        SqlStatements.clear();
+    }
+
+    @Test
+    @DisplayName("should serve category owner lookups from cache after the first query")
+    void cacheCategoryOwner() {
+        // given
+        var account = new AccountIdentifier(UUID.randomUUID());
+        var category = categories.save(new Category("Gifts", account));
+        SqlStatements.clear();
+
+        // when
+        var first = categories.findAccountById(category.getId());
+        var second = categories.findAccountById(category.getId());
+
+        // then
+        assertThat(first).contains(account);
+        assertThat(second).contains(account);
+
+        // and: only the first lookup reached the database
+        assertThat(SqlStatements.selects("expense_category")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not cache unknown categories")
+    void skipUnknownCategory() {
+        // given
+        var id = new CategoryIdentifier(UUID.randomUUID());
+
+        // when
+        categories.findAccountById(id);
+        var owner = categories.findAccountById(id);
+
+        // then
+        assertThat(owner).isEmpty();
+        assertThat(SqlStatements.selects("expense_category")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should evict the category owner when the category is saved or deleted")
+    void evictOnMutation() {
+        // given
+        var category = categories.save(new Category("Pets", new AccountIdentifier(UUID.randomUUID())));
+        categories.findAccountById(category.getId());
+
+        // when
+        categories.delete(category);
+
+        // then
+        assertThat(cacheManager.getCache(Categories.OWNERS_CACHE).get(category.getId())).isNull();
+        assertThat(categories.findAccountById(category.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should evict every category owner when categories are deleted in bulk")
+    void evictOnBulkMutation() {
+        // given
+        var category = categories.save(new Category("Travel", new AccountIdentifier(UUID.randomUUID())));
+        categories.findAccountById(category.getId());
+
+        // when
+        categories.deleteAllByIdInBatch(List.of(category.getId()));
+
+        // then
+        assertThat(cacheManager.getCache(Categories.OWNERS_CACHE).get(category.getId())).isNull();
+        assertThat(categories.findAccountById(category.getId())).isEmpty();
+    }
+}
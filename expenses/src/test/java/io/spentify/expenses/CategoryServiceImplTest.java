@@ -1,5 +1,7 @@
 package io.spentify.expenses;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.Category.CategoryIdentifier;
 import io.spentify.expenses.Failure.FieldViolation;
 import io.vavr.control.Either;
 import org.assertj.core.api.Assertions;
@@ -11,10 +13,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -22,20 +29,26 @@ import static org.apache.commons.lang3.RandomStringUtils.random;
 import static org.assertj.vavr.api.VavrAssertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @Tag("unit")
 class CategoryServiceImplTest {
 
     Categories categories;
 
+    SimpleMeterRegistry meterRegistry;
+
+    @Captor
+    ArgumentCaptor<Collection<Category>> captor;
+
     CategoryServiceImpl service;
 
     @BeforeEach
     void setUp() {
+        MockitoAnnotations.openMocks(this);
         categories = Mockito.mock(Categories.class);
-        service = new CategoryServiceImpl(categories);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CategoryServiceImpl(categories, new FailureCounter(meterRegistry));
     }
 
     @Test
@@ -100,6 +113,11 @@ class CategoryServiceImplTest {
 
         // and
         verify(categories).existsByAccountAndName(any(AccountIdentifier.class), anyString());
+
+        // and: the failure is counted
+        Assertions.assertThat(meterRegistry.get(FailureCounter.NAME)
+                .tags("operation", "category.add", "type", "ConflictFailure")
+                .counter().count()).isEqualTo(1);
     }
 
 
@@ -131,4 +149,117 @@ class CategoryServiceImplTest {
                 .extracting(Category::getAccount, Category::getName)
                 .containsExactly(new AccountIdentifier(accountId), name);
     }
+
+    @Test
+    @DisplayName("Add all categories inserts every valid name at once")
+    void addAll() {
+        // given
+        var accountId = UUID.randomUUID();
+        when(categories.insertAllIgnoringConflicts(anyCollection())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+
+        // when
+        var outcomes = service.addAll(accountId, List.of("Fun", "Food"));
+
+        // then
+        Assertions.assertThat(outcomes)
+                .allSatisfy(either -> assertThat(either).containsRightInstanceOf(Category.class))
+                .extracting(either -> either.get().getName())
+                .containsExactly("Fun", "Food");
+
+        // and
+        verify(categories).insertAllIgnoringConflicts(anyCollection());
+        verify(categories, never()).existsByAccountAndName(any(AccountIdentifier.class), anyString());
+        verify(categories, never()).save(any(Category.class));
+    }
+
+    @Test
+    @DisplayName("Add all categories reports a conflict for names already present for the account")
+    void addAllReportsExistingNames() {
+        // given
+        var accountId = UUID.randomUUID();
+        when(categories.insertAllIgnoringConflicts(anyCollection())).thenAnswer(invocation -> ids(
+                invocation.<Collection<Category>>getArgument(0).stream()
+                        .filter(category -> !category.getName().equals("Fun"))
+                        .toList()));
+
+        // when
+        var outcomes = service.addAll(accountId, List.of("Fun", "Food"));
+
+        // then
+        assertThat(outcomes.get(0))
+                .containsOnLeft(Failure.ofConflict("Category 'Fun' for account '%s' already exists".formatted(accountId)));
+        assertThat(outcomes.get(1))
+                .containsRightInstanceOf(Category.class);
+    }
+
+    @Test
+    @DisplayName("Add all categories validates every name and inserts only the valid ones")
+    void addAllValidatesNames() {
+        // given
+        var accountId = UUID.randomUUID();
+        when(categories.insertAllIgnoringConflicts(anyCollection())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+
+        // when
+        var outcomes = service.addAll(accountId, List.of(" ", "Fun", "Fun"));
+
+        // then
+        assertThat(outcomes.get(0))
+                .containsOnLeft(Failure.ofValidation("Schema validation failure",
+                        List.of(new FieldViolation("name", "name cannot be blank", " "))));
+        assertThat(outcomes.get(1))
+                .containsRightInstanceOf(Category.class);
+        assertThat(outcomes.get(2))
+                .containsOnLeft(Failure.ofConflict("Category 'Fun' for account '%s' already exists".formatted(accountId)));
+
+        // and
+        verify(categories).insertAllIgnoringConflicts(captor.capture());
+        Assertions.assertThat(captor.getValue()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Add all categories fails every name when accountId is null")
+    void addAllFailsWhenAccountIdIsNull() {
+        // when
+        var outcomes = service.addAll((UUID) null, List.of("Fun", "Food"));
+
+        // then
+        Assertions.assertThat(outcomes)
+                .hasSize(2)
+                .allSatisfy(either -> assertThat(either)
+                        .containsOnLeft(Failure.ofValidation("Schema validation failure",
+                                List.of(new FieldViolation("accountId", "accountId cannot be null", null)))));
+
+        // and
+        verifyNoInteractions(categories);
+    }
+
+    @Test
+    @DisplayName("Add all categories for many accounts inserts every account's categories at once")
+    void addAllForAccounts() {
+        // given
+        var firstAccountId = UUID.randomUUID();
+        var secondAccountId = UUID.randomUUID();
+        when(categories.insertAllIgnoringConflicts(anyCollection())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+
+        // when
+        var outcomes = service.addAll(List.of(firstAccountId, secondAccountId, firstAccountId), List.of("Fun", "Food"));
+
+        // then
+        Assertions.assertThat(outcomes)
+                .containsOnlyKeys(firstAccountId, secondAccountId)
+                .allSatisfy((accountId, accountOutcomes) -> Assertions.assertThat(accountOutcomes)
+                        .allSatisfy(either -> assertThat(either).containsRightInstanceOf(Category.class))
+                        .extracting(either -> either.get().getAccount())
+                        .containsOnly(new AccountIdentifier(accountId)));
+
+        // and
+        verify(categories).insertAllIgnoringConflicts(captor.capture());
+        Assertions.assertThat(captor.getValue()).hasSize(4);
+    }
+
+    private static Set<CategoryIdentifier> ids(Collection<Category> categories) {
+        return categories.stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+    }
 }
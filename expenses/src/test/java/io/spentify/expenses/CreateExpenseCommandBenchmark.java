@@ -0,0 +1,44 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.CreateExpenseUseCase.CreateExpenseCommand;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and allocation of constructing a self-validated {@link CreateExpenseCommand} with the shared validator,
+ * against building a validator factory per command as {@link SelfValidating} used to.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=CreateExpenseCommandBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateExpenseCommandBenchmark {
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+    private final BigDecimal amount = BigDecimal.valueOf(12.5);
+    private final LocalDate expenseDate = LocalDate.now();
+
+    @Benchmark
+    public CreateExpenseCommand sharedValidator() {
+        return command();
+    }
+
+    @Benchmark
+    public Set<?> validatorFactoryPerCommand() {
+        return Validation.buildDefaultValidatorFactory().getValidator().validate(command());
+    }
+
+    private CreateExpenseCommand command() {
+        return new CreateExpenseCommand(accountId, categoryId, amount, "EUR", "card", expenseDate, "Coffee");
+    }
+}
@@ -1,8 +1,9 @@
 package io.spentify.expenses;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.spentify.expenses.Category.CategoryIdentifier;
+import io.vavr.control.Either;
 import jakarta.validation.ConstraintViolationException;
-import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -10,19 +11,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static io.spentify.expenses.CreateExpenseUseCase.CreateExpenseCommand.CreateExpenseCommandBuilder;
-import static java.lang.Boolean.FALSE;
-import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @Tag("unit")
@@ -30,13 +37,17 @@ class CreateExpenseServiceTest {
 
     Expenses expenses;
     Categories categories;
+    ApplicationEventPublisher events;
+    SimpleMeterRegistry meterRegistry;
     CreateExpenseService service;
 
     @BeforeEach
     void setUp() {
         expenses = Mockito.mock(Expenses.class);
         categories = Mockito.mock(Categories.class);
-        service = new CreateExpenseService(expenses, categories);
+        events = Mockito.mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CreateExpenseService(expenses, categories, events, new FailureCounter(meterRegistry));
     }
 
     @Test
@@ -102,6 +113,19 @@ class CreateExpenseServiceTest {
                 .hasMessageContaining("paymentType: paymentType can be: 'cash', 'card'");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"", "eur", "EURO", "XYZ"})
+    @DisplayName("should fail expense creation when 'currency' is not an ISO 4217 code")
+    void failWhenCurrencyIsInvalid(String value) {
+        // when
+        var thrown = catchThrowable(() -> validCommand().currency(value).build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("currency: currency must be an ISO 4217 currency code");
+    }
+
     @Test
     @DisplayName("should fail expense creation when 'amount' is null")
     void failWhenExpenseDateIsNull() {
@@ -117,8 +141,8 @@ class CreateExpenseServiceTest {
     @Test
     @DisplayName("should fail expense creation when 'categoryId' and 'accountId' not found")
     void failWhenCategoryAccountNotFound() {
-        // given
-        when(categories.existsByIdAndAccount(any(CategoryIdentifier.class), any(AccountIdentifier.class))).thenReturn(FALSE);
+        // given: the guarded insert finds no category of the account
+        when(expenses.insertIfCategoryOwned(any(Expense.class))).thenReturn(false);
         var cmd = validCommand().build();
 
         // when
@@ -129,8 +153,13 @@ class CreateExpenseServiceTest {
                 .isInstanceOf(CategoryAccountNotFound.class)
                 .hasMessageContaining("category id '%s' for account id '%s' not found".formatted(cmd.categoryId, cmd.accountId));
 
-        // and
-        verify(categories).existsByIdAndAccount(any(CategoryIdentifier.class), any(AccountIdentifier.class));
+        // and: the owner is checked by the insert itself, nothing is published
+        verifyNoInteractions(categories, events);
+
+        // and: the failure is counted
+        assertThat(meterRegistry.get(FailureCounter.NAME)
+                .tags("operation", "expense.create", "type", "CategoryAccountNotFound")
+                .counter().count()).isEqualTo(1);
     }
 
     @Test
@@ -138,9 +167,7 @@ class CreateExpenseServiceTest {
     void createNewExpense() {
         // given
         var cmd = validCommand().build();
-        var category = new Category("Fun", new AccountIdentifier(cmd.accountId));
-        when(categories.existsByIdAndAccount(any(CategoryIdentifier.class), any(AccountIdentifier.class))).thenReturn(TRUE);
-        when(categories.getReferenceById(any(CategoryIdentifier.class))).thenReturn(category);
+        when(expenses.insertIfCategoryOwned(any(Expense.class))).thenReturn(true);
 
         // when
         var expense = service.create(cmd);
@@ -159,18 +186,110 @@ class CreateExpenseServiceTest {
                         Expense::getDescription
                 )
                 .containsExactly(
-                        category,
+                        new CategoryIdentifier(cmd.categoryId),
                         new AccountIdentifier(cmd.accountId),
-                        Money.of(BigDecimal.TEN, "EUR"),
+                        Amount.of(BigDecimal.TEN, "EUR"),
                         Payment.Type.CARD,
                         cmd.expenseDate,
                         "Andy's pizza lunch"
                 );
 
+        // and: inserted with its rollup by a single guarded statement
+        assertThat(expense.isNew()).isFalse();
+        verify(expenses).insertIfCategoryOwned(expense);
+        verifyNoMoreInteractions(expenses);
+        verifyNoInteractions(categories);
+
+        // and
+        var event = ArgumentCaptor.forClass(ExpensesCreated.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().expenses()).containsExactly(expense);
+    }
+
+    @Test
+    @DisplayName("should create a new expense in the currency of the command")
+    void createNewExpenseInCurrency() {
+        // given
+        var cmd = validCommand().currency("USD").build();
+        when(expenses.insertIfCategoryOwned(any(Expense.class))).thenReturn(true);
+
+        // when
+        var expense = service.create(cmd);
+
+        // then
+        assertThat(expense.getAmount()).isEqualTo(Amount.of(BigDecimal.TEN, "USD"));
+    }
+
+    @Test
+    @DisplayName("should create all expenses looking up every distinct category once")
+    void createAllExpenses() {
+        // given
+        var accountId = UUID.randomUUID();
+        var categoryId = UUID.randomUUID();
+        var cmds = List.of(
+                validCommand().accountId(accountId).categoryId(categoryId).build(),
+                validCommand().accountId(accountId).categoryId(categoryId).build());
+        when(categories.findAccountById(any(CategoryIdentifier.class)))
+                .thenReturn(Optional.of(new AccountIdentifier(accountId)));
+
+        // when
+        var outcomes = service.createAll(cmds);
+
+        // then
+        assertThat(outcomes)
+                .hasSize(2)
+                .allSatisfy(either -> assertThat(either.isRight()).isTrue());
+        assertThat(outcomes.get(0).get().isNew()).isFalse();
+
+        // and
+        verify(categories, times(1)).findAccountById(new CategoryIdentifier(categoryId));
+        verify(expenses).insertAll(outcomes.stream().map(Either::get).toList());
+        verify(expenses).addToMonthlySpend(outcomes.stream().map(Either::get).toList());
+        verify(expenses, never()).save(any(Expense.class));
+
+        // and
+        var event = ArgumentCaptor.forClass(ExpensesCreated.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().expenses()).isEqualTo(outcomes.stream().map(Either::get).toList());
+    }
+
+    @Test
+    @DisplayName("should fail only the expenses whose 'categoryId' and 'accountId' not found")
+    void createAllFailsWhenCategoryAccountNotFound() {
+        // given
+        var valid = validCommand().build();
+        var unknown = validCommand().build();
+        when(categories.findAccountById(new CategoryIdentifier(valid.categoryId)))
+                .thenReturn(Optional.of(new AccountIdentifier(valid.accountId)));
+        when(categories.findAccountById(new CategoryIdentifier(unknown.categoryId)))
+                .thenReturn(Optional.empty());
+
+        // when
+        var outcomes = service.createAll(List.of(unknown, valid));
+
+        // then
+        assertThat(outcomes.get(0).getLeft())
+                .isEqualTo(Failure.ofNotFound("category id '%s' for account id '%s' not found".formatted(unknown.categoryId, unknown.accountId)));
+        assertThat(outcomes.get(1).isRight()).isTrue();
+
+        // and
+        verify(expenses).insertAll(List.of(outcomes.get(1).get()));
+    }
+
+    @Test
+    @DisplayName("should not insert anything when no expense can be created")
+    void createAllInsertsNothingWhenAllFail() {
+        // given
+        when(categories.findAccountById(any(CategoryIdentifier.class))).thenReturn(Optional.empty());
+
+        // when
+        var outcomes = service.createAll(List.of(validCommand().build()));
+
+        // then
+        assertThat(outcomes.get(0).isLeft()).isTrue();
+
         // and
-        verify(categories).existsByIdAndAccount(any(CategoryIdentifier.class), any(AccountIdentifier.class));
-        verify(categories).getReferenceById(any(CategoryIdentifier.class));
-        verify(expenses).save(expense);
+        verifyNoInteractions(expenses, events);
     }
 
     private CreateExpenseCommandBuilder validCommand() {
@@ -0,0 +1,90 @@
+package io.spentify.expenses;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@Tag("unit")
+class ExchangeRatesTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency GBP = Currency.getInstance("GBP");
+
+    private final ExchangeRates rates = ExchangeRates.builder(EUR)
+            .rate(USD, LocalDate.of(2024, 1, 1), new BigDecimal("1.10"))
+            .rate(USD, LocalDate.of(2024, 2, 1), new BigDecimal("1.25"))
+            .rate(GBP, LocalDate.of(2024, 1, 1), new BigDecimal("0.50"))
+            .build();
+
+    @Test
+    @DisplayName("should use the latest rate effective on the date")
+    void rateVersionedByDate() {
+        // expect
+        assertThat(rates.rate(EUR, USD, LocalDate.of(2024, 1, 1))).contains(new BigDecimal("1.10"));
+        assertThat(rates.rate(EUR, USD, LocalDate.of(2024, 1, 31))).contains(new BigDecimal("1.10"));
+        assertThat(rates.rate(EUR, USD, LocalDate.of(2024, 2, 1))).contains(new BigDecimal("1.25"));
+        assertThat(rates.rate(EUR, USD, LocalDate.of(2030, 1, 1))).contains(new BigDecimal("1.25"));
+    }
+
+    @Test
+    @DisplayName("should have no rate before the first effective date or for an unknown currency")
+    void missingRate() {
+        // expect
+        assertThat(rates.rate(EUR, USD, LocalDate.of(2023, 12, 31))).isEmpty();
+        assertThat(rates.rate(EUR, Currency.getInstance("JPY"), LocalDate.of(2024, 1, 1))).isEmpty();
+        assertThat(ExchangeRates.empty(EUR).rate(USD, EUR, LocalDate.of(2024, 1, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should cross the rates of two currencies through the reference currency")
+    void crossRate() {
+        // expect
+        assertThat(rates.rate(GBP, USD, LocalDate.of(2024, 1, 15))).hasValueSatisfying(rate ->
+                assertThat(rate).isEqualByComparingTo("2.2"));
+        assertThat(rates.rate(USD, EUR, LocalDate.of(2024, 2, 15))).hasValueSatisfying(rate ->
+                assertThat(rate).isEqualByComparingTo("0.8"));
+    }
+
+    @Test
+    @DisplayName("should convert an amount rounding half even to the closest ten-thousandth")
+    void convert() {
+        // expect
+        assertThat(rates.convert(Amount.parse("10", USD), EUR, LocalDate.of(2024, 1, 15)))
+                .contains(Amount.parse("9.0909", EUR));
+        assertThat(rates.convert(Amount.parse("10", GBP), USD, LocalDate.of(2024, 2, 15)))
+                .contains(Amount.parse("25", USD));
+        assertThat(rates.convert(Amount.parse("10", EUR), EUR, LocalDate.of(2000, 1, 1)))
+                .contains(Amount.parse("10", EUR));
+    }
+
+    @Test
+    @DisplayName("should keep the last rate given for the same currency and date")
+    void replaceRate() {
+        // when
+        var replaced = ExchangeRates.builder(EUR)
+                .rate(USD, LocalDate.of(2024, 1, 1), new BigDecimal("1.10"))
+                .rate(USD, LocalDate.of(2024, 1, 1), new BigDecimal("1.20"))
+                .build();
+
+        // then
+        assertThat(replaced.rate(EUR, USD, LocalDate.of(2024, 1, 1))).contains(new BigDecimal("1.20"));
+    }
+
+    @Test
+    @DisplayName("should reject a non positive rate")
+    void rejectNonPositiveRate() {
+        // when
+        var thrown = catchThrowable(() -> ExchangeRates.builder(EUR).rate(USD, LocalDate.of(2024, 1, 1), BigDecimal.ZERO));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,44 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.Category.CategoryIdentifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of an {@link Expense} through its builder, including the {@link Amount}.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=ExpenseBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseBenchmark {
+
+    private final AccountIdentifier account = new AccountIdentifier(UUID.randomUUID());
+    private final CategoryIdentifier category = new CategoryIdentifier(UUID.randomUUID());
+    private final BigDecimal amount = BigDecimal.valueOf(12.5);
+    private final LocalDate expenseDate = LocalDate.now();
+
+    @Benchmark
+    public Amount amount() {
+        return Amount.of(amount, "EUR");
+    }
+
+    @Benchmark
+    public Expense expense() {
+        return Expense.builder()
+                .account(account)
+                .category(category)
+                .amount(Amount.of(amount, "EUR"))
+                .paymentType(Payment.Type.CARD)
+                .expenseDate(expenseDate)
+                .description("Coffee")
+                .build();
+    }
+}
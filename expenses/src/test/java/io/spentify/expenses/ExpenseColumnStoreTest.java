@@ -0,0 +1,136 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.Category.CategoryIdentifier;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+class ExpenseColumnStoreTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+
+    JdbcTemplate jdbcTemplate;
+    ExpenseColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        store = new ExpenseColumnStore(jdbcTemplate, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("should load the expenses of an account once")
+    void loadOnce() {
+        // when
+        store.aggregate(query());
+        store.aggregate(query());
+
+        // then
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("should append the expenses created after the load")
+    void appendCreatedAfterLoad() {
+        // given
+        store.aggregate(query());
+
+        // when
+        store.on(new ExpensesCreated(List.of(expense()), System.nanoTime()));
+
+        // then
+        assertThat(store.aggregate(query()))
+                .containsExactly(new SpendGroup(CATEGORY_ID, null, Amount.parse("10", "EUR"), 1));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("should evict the account when its load overlaps the commit of the created expenses")
+    void evictWhenLoadOverlapsCommit() {
+        // given
+        var published = System.nanoTime();
+        store.aggregate(query());
+
+        // when
+        store.on(new ExpensesCreated(List.of(expense()), published));
+
+        // then
+        assertThat(store.aggregate(query())).isEmpty();
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("should evict the account when expenses are created while it loads")
+    void evictWhenCreatedWhileLoading() {
+        // given
+        doAnswer(invocation -> {
+            store.on(new ExpensesCreated(List.of(expense()), System.nanoTime()));
+            return null;
+        }).doNothing().when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // when
+        store.aggregate(query());
+        store.aggregate(query());
+
+        // then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("should ignore the expenses created for an account not loaded")
+    void ignoreAccountNotLoaded() {
+        // when
+        store.on(new ExpensesCreated(List.of(expense()), System.nanoTime()));
+
+        // then
+        assertThat(store.aggregate(query())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should evict the account a statement was imported to")
+    void evictOnStatementImport() {
+        // given
+        store.aggregate(query());
+
+        // when
+        store.on(new StatementImported(new AccountIdentifier(ACCOUNT_ID)));
+        store.aggregate(query());
+
+        // then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private static SpendQuery query() {
+        return SpendQuery.builder().accountId(ACCOUNT_ID).groupBy("category").build();
+    }
+
+    private static Expense expense() {
+        return Expense.builder()
+                .account(new AccountIdentifier(ACCOUNT_ID))
+                .category(new CategoryIdentifier(CATEGORY_ID))
+                .amount(Amount.parse("10", "EUR"))
+                .paymentType(Payment.Type.CARD)
+                .expenseDate(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
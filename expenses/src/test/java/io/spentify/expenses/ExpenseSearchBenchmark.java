@@ -0,0 +1,86 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the description search latency of an account among {@code -Dbenchmark.rows} synthetic expenses, 1% of them
+ * owned by the searched account and the rest spread over 999 others.
+ * Run with {@code mvn verify -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+@SpringBootTest(classes = TestExpensesApplication.class)
+class ExpenseSearchBenchmark extends TestContainersSetup {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int WARMUP = 10;
+    private static final int SEARCHES = 100;
+    private static final long MAX_P95_MILLIS = 50;
+    private static final UUID ACCOUNT_ID = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+
+    private static final String GENERATE = """
+            INSERT INTO expenses (account_id, payment_type, amount, currency, expense_date, description, category_id)
+            SELECT CASE WHEN i %% 100 = 0 THEN '%1$s'::UUID ELSE md5((i %% 999)::TEXT)::UUID END,
+                   'CARD', 1 + i %% 100, 'EUR', DATE '2015-01-01' + i %% 3650,
+                   (ARRAY['Uber ride to airport', 'Pharmacy Dr Max', 'Lidl groceries', 'Coffee at Starbucks',
+                          'Netflix subscription', 'Kaufland weekly shopping', 'Bolt taxi', 'Cinema tickets',
+                          'Gas station OMV', 'Restaurant dinner'])[1 + (i / 100) %% 10] || ' #' || i,
+                   '3b257779-a5db-4e87-9365-72c6f8d4977d'
+            FROM generate_series(1, ?) i
+            """;
+
+    @Autowired
+    SearchExpensesUseCase searchExpensesUseCase;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"pharmacy", "harm", "uber airport", "123400", "no such expense"})
+    @DisplayName("Should search a page of an account expenses among a million rows in under 50ms")
+    @Sql("/persistence/create-expense-category.sql")
+    void searchLatency(String q) {
+        // given: the synthetic expenses, generated once for every query
+        if (jdbcTemplate.queryForObject("SELECT count(*) FROM expenses", Long.class) < ROWS) {
+            jdbcTemplate.update(GENERATE.formatted(ACCOUNT_ID), ROWS);
+            jdbcTemplate.execute("ANALYZE expenses");
+        }
+        var query = SearchExpensesQuery.builder().accountId(ACCOUNT_ID).q(q).limit(20).build();
+        for (var i = 0; i < WARMUP; i++) {
+            searchExpensesUseCase.search(query);
+        }
+
+        // when: the first page is searched repeatedly
+        var millis = new double[SEARCHES];
+        var matches = 0;
+        for (var i = 0; i < SEARCHES; i++) {
+            var start = System.nanoTime();
+            matches = searchExpensesUseCase.search(query).matches().size();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        var p50 = millis[SEARCHES / 2];
+        var p95 = millis[SEARCHES * 95 / 100];
+
+        // then: latency reported
+        log.info("rows={} q='{}' matches={} p50={}ms p95={}ms max={}ms",
+                ROWS, q, matches, p50, p95, millis[SEARCHES - 1]);
+
+        // and
+        assertThat(p95).isLessThan(MAX_P95_MILLIS);
+    }
+}
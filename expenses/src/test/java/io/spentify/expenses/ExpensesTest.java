@@ -0,0 +1,401 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.BudgetUseCase.SetBudgetCommand;
+import io.spentify.expenses.CreateExpenseUseCase.CreateExpenseCommand;
+import io.spentify.expenses.ListExpensesUseCase.ListExpensesQuery;
+import io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import io.spentify.expenses.jdbc.StatementCounts;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import static io.spentify.expenses.jdbc.StatementCountsAssert.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest(classes = TestExpensesApplication.class)
+class ExpensesTest extends TestContainersSetup {
+
+    @Autowired
+    CreateExpenseUseCase createExpenseUseCase;
+
+    @Autowired
+    CategoryService categoryService;
+
+    @Autowired
+    ListExpensesUseCase listExpensesUseCase;
+
+    @Autowired
+    SearchExpensesUseCase searchExpensesUseCase;
+
+    @Autowired
+    MonthlySpendUseCase monthlySpendUseCase;
+
+    @Autowired
+    Expenses expenses;
+
+    @Autowired
+    SpendAnalyticsUseCase spendAnalyticsUseCase;
+
+    @Autowired
+    ExchangeRateStore exchangeRateStore;
+
+    @Autowired
+    BudgetUseCase budgetUseCase;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatements.clear();
+    }
+
+    @Test
+    @DisplayName("should persist a new expense and its monthly spend with a single guarded INSERT")
+    @Sql("/persistence/create-expense-category.sql")
+    void createNewExpenseWithSingleInsert() {
+        // given
+        var cmd = CreateExpenseCommand.builder()
+                .accountId(UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca"))
+                .categoryId(UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d"))
+                .amount(BigDecimal.TEN)
+                .paymentType(Payment.Type.CARD.value)
+                .expenseDate(LocalDate.now())
+                .build();
+
+        // when
+        Expense expense;
+        try (var counts = StatementCounts.open()) {
+            expense = createExpenseUseCase.create(cmd);
+
+            // then: the owner check, the expense and the monthly spend upsert in one round trip
+            assertStatements(counts).hasStatements(1).hasInserts(1).hasSelects(0);
+        }
+        assertThat(expense.isNew()).isFalse();
+        assertThat(expenses.findById(expense.getId())).isPresent();
+
+        // and: no category lookup nor insert through the persistence context
+        assertThat(SqlStatements.selects("expense_category")).isZero();
+        assertThat(SqlStatements.inserts("expenses")).isZero();
+    }
+
+    @Test
+    @DisplayName("should not persist an expense in a category of another account")
+    @Sql("/persistence/create-expense-category.sql")
+    void createNothingInCategoryOfAnotherAccount() {
+        // given: the category of another account
+        var accountId = UUID.randomUUID();
+        var cmd = CreateExpenseCommand.builder()
+                .accountId(accountId)
+                .categoryId(UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d"))
+                .amount(BigDecimal.TEN)
+                .paymentType(Payment.Type.CARD.value)
+                .expenseDate(LocalDate.now())
+                .build();
+
+        // when
+        Throwable thrown;
+        try (var counts = StatementCounts.open()) {
+            thrown = catchThrowable(() -> createExpenseUseCase.create(cmd));
+
+            // then: refused by the same single statement
+            assertStatements(counts).hasStatements(1);
+        }
+        assertThat(thrown).isInstanceOf(CategoryAccountNotFound.class);
+
+        // and: neither the expense nor its monthly spend written
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM expenses WHERE account_id = ?", Long.class, accountId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM monthly_category_spend WHERE account_id = ?", Long.class, accountId)).isZero();
+    }
+
+    @Test
+    @DisplayName("should persist a new category with a single INSERT and no SELECT by id")
+    void addNewCategoryWithSingleInsert() {
+        // when
+        Either<Failure, Category> either;
+        try (var counts = StatementCounts.open()) {
+            either = categoryService.add(UUID.randomUUID(), "Books");
+
+            // then
+            assertStatements(counts).hasSelects(1).hasInserts(1).hasStatements(2);
+        }
+        assertThat(either).isRight();
+
+        // and: one INSERT per created aggregate
+        assertThat(SqlStatements.inserts("expense_category")).isEqualTo(1);
+
+        // and: the name uniqueness check is the only SELECT
+        assertThat(SqlStatements.selects("expense_category")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should add all default categories with a single INSERT")
+    void addAllCategoriesWithSingleInsert() {
+        // when
+        List<Either<Failure, Category>> outcomes;
+        try (var counts = StatementCounts.open()) {
+            outcomes = categoryService.addAll(UUID.randomUUID(), DefaultCategories.asList());
+
+            // then: one multi-row INSERT, no per-name existence check
+            assertStatements(counts).hasInserts(1).hasSelects(0).hasStatements(1);
+        }
+        assertThat(outcomes).allSatisfy(either -> assertThat(either).isRight());
+    }
+
+    @Test
+    @DisplayName("should list every expense of the account once, page by page, newest first")
+    @Sql("/persistence/create-expense-category.sql")
+    void listExpensesPageByPage() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        for (var i = 0; i < 7; i++) {
+            createExpenseUseCase.create(CreateExpenseCommand.builder()
+                    .accountId(accountId)
+                    .categoryId(UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d"))
+                    .amount(BigDecimal.TEN)
+                    .paymentType(Payment.Type.CARD.value)
+                    .expenseDate(LocalDate.of(2021, 10, 1).plusDays(i % 3))
+                    .build());
+        }
+
+        // when
+        var listed = new ArrayList<ExpenseView>();
+        ExpenseCursor cursor = null;
+        do {
+            var page = listExpensesUseCase.list(ListExpensesQuery.builder()
+                    .accountId(accountId)
+                    .from(LocalDate.of(2021, 10, 1))
+                    .to(LocalDate.of(2021, 10, 3))
+                    .limit(3)
+                    .cursor(cursor)
+                    .build());
+            listed.addAll(page.expenses());
+            cursor = page.next();
+        } while (cursor != null);
+
+        // then: ids compared as text, the unsigned byte order PostgreSQL sorts uuids by
+        assertThat(listed)
+                .hasSize(7)
+                .doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.comparing(ExpenseView::expenseDate)
+                        .thenComparing(expense -> expense.id().toString())
+                        .reversed());
+    }
+
+    @Test
+    @DisplayName("should summarize the monthly spend maintained with every created expense")
+    @Sql("/persistence/create-expense-category.sql")
+    void summarizeMonthlySpend() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        var categoryId = UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d");
+        for (var amount : List.of("10.50", "4.25", "99.00")) {
+            createExpenseUseCase.create(CreateExpenseCommand.builder()
+                    .accountId(accountId)
+                    .categoryId(categoryId)
+                    .amount(new BigDecimal(amount))
+                    .paymentType(Payment.Type.CARD.value)
+                    .expenseDate(amount.equals("99.00") ? LocalDate.of(2022, 6, 1) : LocalDate.of(2022, 5, 13))
+                    .build());
+        }
+
+        // when
+        var summary = monthlySpendUseCase.summarize(accountId, YearMonth.of(2022, 5));
+
+        // then
+        assertThat(summary)
+                .containsExactly(new MonthlyCategorySpend(categoryId, Amount.parse("14.75", "EUR"), 2));
+    }
+
+    @Test
+    @DisplayName("should search the expenses of an account by words and substrings, whole words first")
+    @Sql("/persistence/create-expense-category.sql")
+    void searchExpenses() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        for (var description : List.of("Taxi to the airport", "Airport parking", "Airportshuttle ticket", "Groceries")) {
+            createExpenseUseCase.create(CreateExpenseCommand.builder()
+                    .accountId(accountId)
+                    .categoryId(UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d"))
+                    .amount(BigDecimal.TEN)
+                    .paymentType(Payment.Type.CARD.value)
+                    .expenseDate(LocalDate.of(2022, 8, 13))
+                    .description(description)
+                    .build());
+        }
+
+        // when: every page of two matches is read
+        var descriptions = new ArrayList<String>();
+        SearchCursor cursor = null;
+        do {
+            var page = searchExpensesUseCase.search(SearchExpensesQuery.builder()
+                    .accountId(accountId)
+                    .q("Airport")
+                    .limit(2)
+                    .cursor(cursor)
+                    .build());
+            page.matches().forEach(match -> descriptions.add(match.expense().description()));
+            cursor = page.next();
+        } while (cursor != null);
+
+        // then
+        assertThat(descriptions).hasSize(3);
+        assertThat(descriptions.subList(0, 2)).containsExactlyInAnyOrder("Taxi to the airport", "Airport parking");
+        assertThat(descriptions.get(2)).isEqualTo("Airportshuttle ticket");
+    }
+
+    @Test
+    @DisplayName("should aggregate the spend of an account alike in the database and in the column store")
+    @Sql("/persistence/create-expense-category.sql")
+    void analyzeSpend() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        var fun = UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d");
+        var food = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        for (var day : List.of(1, 15, 30)) {
+            for (var categoryId : List.of(fun, food)) {
+                createExpenseUseCase.create(CreateExpenseCommand.builder()
+                        .accountId(accountId)
+                        .categoryId(categoryId)
+                        .amount(new BigDecimal("2.50"))
+                        .currency(day == 30 ? "USD" : "EUR")
+                        .paymentType(day == 15 ? Payment.Type.CASH.value : Payment.Type.CARD.value)
+                        .expenseDate(LocalDate.of(2022, 9, day))
+                        .build());
+            }
+        }
+        var query = SpendQuery.builder()
+                .accountId(accountId)
+                .from(LocalDate.of(2022, 9, 1))
+                .to(LocalDate.of(2022, 9, 30))
+                .paymentType("card");
+        var columnStore = new ExpenseColumnStore(jdbcTemplate, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+
+        // when
+        var perCategory = spendAnalyticsUseCase.analyze(query.groupBy("category").build());
+        var perMonth = spendAnalyticsUseCase.analyze(query.groupBy("month").build());
+
+        // then
+        assertThat(perCategory).containsExactlyInAnyOrder(
+                new SpendGroup(fun, null, Amount.parse("2.50", "EUR"), 1),
+                new SpendGroup(fun, null, Amount.parse("2.50", "USD"), 1),
+                new SpendGroup(food, null, Amount.parse("2.50", "EUR"), 1),
+                new SpendGroup(food, null, Amount.parse("2.50", "USD"), 1));
+        assertThat(perMonth).containsExactly(
+                new SpendGroup(null, YearMonth.of(2022, 9), Amount.parse("5", "EUR"), 2),
+                new SpendGroup(null, YearMonth.of(2022, 9), Amount.parse("5", "USD"), 2));
+
+        // and
+        assertThat(columnStore.aggregate(query.groupBy("category").build())).containsExactlyInAnyOrderElementsOf(perCategory);
+        assertThat(columnStore.aggregate(query.groupBy("month").build())).containsExactlyInAnyOrderElementsOf(perMonth);
+    }
+
+    @Test
+    @DisplayName("should summarize the monthly spend of expenses in several currencies in a single currency")
+    @Sql({"/persistence/create-expense-category.sql", "/persistence/create-exchange-rates.sql"})
+    void summarizeMonthlySpendInCurrency() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        var categoryId = UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d");
+        for (var currency : List.of("EUR", "USD")) {
+            createExpenseUseCase.create(CreateExpenseCommand.builder()
+                    .accountId(accountId)
+                    .categoryId(categoryId)
+                    .amount(new BigDecimal("11.00"))
+                    .currency(currency)
+                    .paymentType(Payment.Type.CARD.value)
+                    .expenseDate(LocalDate.of(2022, 7, 13))
+                    .build());
+        }
+        exchangeRateStore.refresh();
+
+        // when
+        var summary = monthlySpendUseCase.summarize(accountId, YearMonth.of(2022, 7), Currency.getInstance("EUR"));
+
+        // then
+        assertThat(summary).containsOnRight(List.of(new MonthlyCategorySpend(categoryId, Amount.parse("21", "EUR"), 2)));
+    }
+
+    @Test
+    @DisplayName("should rebuild the monthly spend of an account range from its expenses")
+    @Sql("/persistence/create-expense-category.sql")
+    void rebuildMonthlySpend() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        createExpenseUseCase.create(CreateExpenseCommand.builder()
+                .accountId(accountId)
+                .categoryId(UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d"))
+                .amount(BigDecimal.TEN)
+                .paymentType(Payment.Type.CARD.value)
+                .expenseDate(LocalDate.of(2023, 10, 13))
+                .build());
+        var summary = monthlySpendUseCase.summarize(accountId, YearMonth.of(2023, 10));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> expenses.rebuildMonthlySpend(new UUID(0, 0), null));
+
+        // then
+        assertThat(monthlySpendUseCase.summarize(accountId, YearMonth.of(2023, 10)))
+                .isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("should warn once the expenses of a month take the spend of the category over its budget")
+    @Sql("/persistence/create-expense-category.sql")
+    void warnWhenBudgetExceeded() {
+        // given
+        var accountId = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+        var fun = UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d");
+        var month = YearMonth.of(2022, 11);
+        assertThat(budgetUseCase.set(SetBudgetCommand.builder()
+                .accountId(accountId)
+                .categoryId(fun)
+                .monthlyLimit(new BigDecimal("5"))
+                .build())).isRight();
+        var expense = CreateExpenseCommand.builder()
+                .accountId(accountId)
+                .categoryId(fun)
+                .amount(new BigDecimal("3"))
+                .paymentType(Payment.Type.CARD.value)
+                .expenseDate(month.atDay(10))
+                .build();
+
+        // when
+        var first = budgetUseCase.findExceeded(createExpenseUseCase.create(expense));
+        var second = budgetUseCase.findExceeded(createExpenseUseCase.create(expense));
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).hasValue(new BudgetStatus(fun, month, Amount.parse("5", "EUR"), Amount.parse("6", "EUR"), List.of()));
+
+        // and
+        assertThat(budgetUseCase.findAll(accountId, month)).containsExactly(second.get());
+        assertThat(budgetUseCase.delete(accountId, fun)).isRight();
+        assertThat(budgetUseCase.findAll(accountId, month)).isEmpty();
+    }
+}
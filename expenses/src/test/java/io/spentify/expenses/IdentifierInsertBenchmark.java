@@ -0,0 +1,63 @@
+package io.spentify.expenses;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares inserting {@code -Dbenchmark.rows} random version 4 with time-ordered version 7 primary keys, 1M rows per
+ * statement, reporting the insert rate of the first and last statements and the size of the primary key index. Random
+ * keys land on any leaf page of the index, so once it outgrows the buffer cache every insert reads and splits a page,
+ * while time-ordered keys only ever fill the rightmost one.
+ * Run with {@code mvn verify -Pbenchmark -Dbenchmark.rows=100000000}.
+ */
+@Tag("benchmark")
+@Slf4j
+@SpringBootTest(classes = TestExpensesApplication.class)
+class IdentifierInsertBenchmark extends TestContainersSetup {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+    private static final int ROWS_PER_STATEMENT = 1_000_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gen_random_uuid", "uuid_generate_v7"})
+    @DisplayName("Should report the insert rate and the primary key index size of the generated identifiers")
+    void insertRateAndIndexSize(String function) {
+        // given: an expenses like table keyed by the generated identifiers
+        var table = "benchmark_" + function;
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE " + table + " (id UUID PRIMARY KEY DEFAULT " + function + "(), expense_date DATE NOT NULL)");
+
+        // when: the rows are inserted a statement at a time
+        var firstRate = 0.0;
+        var lastRate = 0.0;
+        var start = System.nanoTime();
+        for (var inserted = 0; inserted < ROWS; inserted += ROWS_PER_STATEMENT) {
+            var statementStart = System.nanoTime();
+            jdbcTemplate.update("INSERT INTO " + table + " (expense_date) SELECT DATE '2015-01-01' + i % 3650 FROM generate_series(1, ?) i",
+                    Math.min(ROWS_PER_STATEMENT, ROWS - inserted));
+            lastRate = ROWS_PER_STATEMENT * 1e9 / (System.nanoTime() - statementStart);
+            firstRate = inserted == 0 ? lastRate : firstRate;
+        }
+        var rate = ROWS * 1e9 / (System.nanoTime() - start);
+
+        // then: insert rate and index size reported
+        var indexBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size(?::REGCLASS)", Long.class, table + "_pkey");
+        log.info("ids={} rows={} rows/s={} first rows/s={} last rows/s={} index={}MB",
+                function, ROWS, Math.round(rate), Math.round(firstRate), Math.round(lastRate), indexBytes / (1024 * 1024));
+
+        // and
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class)).isEqualTo(ROWS);
+        jdbcTemplate.execute("DROP TABLE " + table);
+    }
+}
@@ -0,0 +1,189 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.Category.CategoryIdentifier;
+import io.spentify.expenses.Failure.FieldViolation;
+import io.spentify.expenses.ImportStatementUseCase.ImportStatementCommand;
+import io.spentify.expenses.ImportStatementUseCase.StatementImport;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.spentify.expenses.ImportStatementUseCase.ImportStatementCommand.ImportStatementCommandBuilder;
+import static io.spentify.expenses.StatementColumns.ABSENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class ImportStatementServiceTest {
+
+    Expenses expenses;
+    Categories categories;
+    ApplicationEventPublisher events;
+    ImportStatementService service;
+
+    @BeforeEach
+    void setUp() {
+        expenses = Mockito.mock(Expenses.class);
+        categories = Mockito.mock(Categories.class);
+        events = Mockito.mock(ApplicationEventPublisher.class);
+        service = new ImportStatementService(expenses, categories, events, new FailureCounter(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("should fail statement import when 'statement' is null")
+    void failWhenStatementIsNull() {
+        // when
+        var thrown = catchThrowable(() -> validCommand("").statement(null).build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("statement: statement cannot be null");
+    }
+
+    @Test
+    @DisplayName("should fail statement import when 'categoryId' and 'accountId' not found")
+    void failWhenCategoryAccountNotFound() {
+        // given
+        when(categories.findAccountById(any(CategoryIdentifier.class))).thenReturn(Optional.empty());
+        var cmd = validCommand("date,amount\n").build();
+
+        // when
+        var either = service.importStatement(cmd);
+
+        // then
+        assertThat(either.getLeft())
+                .isEqualTo(Failure.ofNotFound("category id '%s' for account id '%s' not found".formatted(cmd.categoryId, cmd.accountId)));
+
+        // and
+        verifyNoInteractions(expenses);
+    }
+
+    @Test
+    @DisplayName("should fail statement import when the header misses the required columns")
+    void failWhenRequiredColumnsMissing() {
+        // given
+        var cmd = validCommand("Booking Date,Description\n").build();
+        ownedCategory(cmd);
+
+        // when
+        var either = service.importStatement(cmd);
+
+        // then
+        assertThat(either.getLeft())
+                .isEqualTo(Failure.ofValidation("Statement header validation failure", List.of(
+                        new FieldViolation("dateColumn", "column not found in statement header", "date"),
+                        new FieldViolation("amountColumn", "column not found in statement header", "amount"))));
+
+        // and
+        verifyNoInteractions(expenses);
+    }
+
+    @Test
+    @DisplayName("should import the statement rows mapping the columns by header name")
+    void importStatement() throws Exception {
+        // given
+        var cmd = validCommand("""
+                \uFEFFDescription,"Amount, EUR",DATE,Balance
+                Books,10.5,2023-10-13,100
+                """)
+                .amountColumn("amount, eur")
+                .build();
+        ownedCategory(cmd);
+
+        var columns = ArgumentCaptor.forClass(StatementColumns.class);
+        var rows = ArgumentCaptor.forClass(Reader.class);
+        when(expenses.importStatement(any(), any(), columns.capture(), rows.capture())).thenReturn(new StatementImport(1, 1));
+
+        // when
+        var either = service.importStatement(cmd);
+
+        // then
+        assertThat(either.get()).isEqualTo(new StatementImport(1, 1));
+        assertThat(columns.getValue()).isEqualTo(new StatementColumns(4, 3, 2, 1, ABSENT, ABSENT, ABSENT));
+
+        // and
+        assertThat(new BufferedReader(rows.getValue()).readLine()).isEqualTo("Books,10.5,2023-10-13,100");
+        verify(expenses).importStatement(eq(new AccountIdentifier(cmd.accountId)), eq(new CategoryIdentifier(cmd.categoryId)), any(), any());
+        verify(events).publishEvent(new StatementImported(new AccountIdentifier(cmd.accountId)));
+    }
+
+    @Test
+    @DisplayName("should map the optional currency column of an export imported back")
+    void importStatementCurrency() {
+        // given
+        var cmd = validCommand("""
+                expense_id,account_id,category_id,creation_timestamp,date,amount,currency,payment_type,description
+                """)
+                .build();
+        ownedCategory(cmd);
+
+        var columns = ArgumentCaptor.forClass(StatementColumns.class);
+        when(expenses.importStatement(any(), any(), columns.capture(), any())).thenReturn(new StatementImport(0, 0));
+
+        // when
+        service.importStatement(cmd);
+
+        // then
+        assertThat(columns.getValue()).isEqualTo(new StatementColumns(9, 5, 6, 9, 8, 3, 7));
+    }
+
+    @Test
+    @DisplayName("should propagate data errors other than rows not matching the header")
+    void propagateDataErrors() {
+        // given: the monthly spend rollup overflowing
+        var cmd = validCommand("""
+                date,amount
+                2023-10-13,10
+                """)
+                .build();
+        ownedCategory(cmd);
+        var overflow = new DataIntegrityViolationException("numeric field overflow", new SQLException("numeric field overflow", "22003"));
+        when(expenses.importStatement(any(), any(), any(), any())).thenThrow(overflow);
+
+        // when
+        var thrown = catchThrowable(() -> service.importStatement(cmd));
+
+        // then
+        assertThat(thrown).isSameAs(overflow);
+        verifyNoInteractions(events);
+    }
+
+    private void ownedCategory(ImportStatementCommand cmd) {
+        when(categories.findAccountById(new CategoryIdentifier(cmd.categoryId)))
+                .thenReturn(Optional.of(new AccountIdentifier(cmd.accountId)));
+    }
+
+    private ImportStatementCommandBuilder validCommand(String statement) {
+        return ImportStatementCommand.builder()
+                .accountId(UUID.randomUUID())
+                .categoryId(UUID.randomUUID())
+                .statement(new StringReader(statement))
+                .dateColumn("date")
+                .amountColumn("amount")
+                .descriptionColumn("description")
+                .paymentTypeColumn("payment_type")
+                .categoryColumn("category_id")
+                .currencyColumn("currency");
+    }
+}
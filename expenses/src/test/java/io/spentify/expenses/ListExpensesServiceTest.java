@@ -0,0 +1,136 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.ListExpensesUseCase.ListExpensesQuery;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static io.spentify.expenses.ListExpensesUseCase.ListExpensesQuery.ListExpensesQueryBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class ListExpensesServiceTest {
+
+    Expenses expenses;
+    ListExpensesService service;
+
+    @BeforeEach
+    void setUp() {
+        expenses = Mockito.mock(Expenses.class);
+        service = new ListExpensesService(expenses);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101})
+    @DisplayName("should fail expenses listing when 'limit' is out of range")
+    void failWhenLimitIsOutOfRange(int limit) {
+        // when
+        var thrown = catchThrowable(() -> validQuery().limit(limit).build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("limit: limit must be");
+    }
+
+    @Test
+    @DisplayName("should fail expenses listing when 'paymentType' is invalid")
+    void failWhenPaymentTypeIsInvalid() {
+        // when
+        var thrown = catchThrowable(() -> validQuery().paymentType("cheque").build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("paymentType: paymentType can be: 'cash', 'card'");
+    }
+
+    @Test
+    @DisplayName("should list the last page without a next cursor")
+    void listLastPage() {
+        // given
+        var query = validQuery().limit(3).build();
+        var views = views(3);
+        when(expenses.findPage(any(ListExpensesQuery.class), eq(4))).thenReturn(views);
+
+        // when
+        var page = service.list(query);
+
+        // then
+        assertThat(page.expenses()).isEqualTo(views);
+        assertThat(page.next()).isNull();
+
+        // and: one extra row requested to detect a next page
+        verify(expenses).findPage(query, 4);
+    }
+
+    @Test
+    @DisplayName("should list a page with the cursor of its last expense")
+    void listPageWithNextCursor() {
+        // given
+        var query = validQuery().limit(3).build();
+        var views = views(4);
+        when(expenses.findPage(any(ListExpensesQuery.class), eq(4))).thenReturn(views);
+
+        // when
+        var page = service.list(query);
+
+        // then
+        assertThat(page.expenses()).isEqualTo(views.subList(0, 3));
+        assertThat(page.next()).isEqualTo(new ExpenseCursor(views.get(2).expenseDate(), views.get(2).id()));
+    }
+
+    @Test
+    @DisplayName("should decode the cursor it encodes")
+    void cursorRoundTrip() {
+        // given
+        var cursor = new ExpenseCursor(LocalDate.of(2023, 10, 13), UUID.randomUUID());
+
+        // when
+        var decoded = ExpenseCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a cursor", "MjAyMy0xMC0xMw", "MjAyMy0xMC0xM3x4eXo"})
+    @DisplayName("should fail cursor decoding when the token is malformed")
+    void failWhenCursorIsMalformed(String token) {
+        // when
+        var thrown = catchThrowable(() -> ExpenseCursor.decode(token));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ExpenseView> views(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ExpenseView(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), Instant.now(),
+                        Amount.of(BigDecimal.TEN, "EUR"), Payment.Type.CARD, LocalDate.of(2023, 10, 13).minusDays(i), null))
+                .toList();
+    }
+
+    private ListExpensesQueryBuilder validQuery() {
+        return ListExpensesQuery.builder()
+                .accountId(UUID.randomUUID())
+                .limit(20);
+    }
+}
@@ -0,0 +1,54 @@
+package io.spentify.expenses;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@Tag("unit")
+class MonthlySpendBackfillTest {
+
+    @Test
+    @DisplayName("should split the account id space into ranges of equal width starting at the lowest id")
+    void bounds() {
+        // when
+        var bounds = MonthlySpendBackfill.bounds(4);
+
+        // then
+        assertThat(bounds).containsExactly(
+                UUID.fromString("00000000-0000-0000-0000-000000000000"),
+                UUID.fromString("40000000-0000-0000-0000-000000000000"),
+                UUID.fromString("80000000-0000-0000-0000-000000000000"),
+                UUID.fromString("c0000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    @DisplayName("should order the range bounds as PostgreSQL orders uuids")
+    void boundsInDatabaseOrder() {
+        // when
+        var bounds = MonthlySpendBackfill.bounds(64);
+
+        // then: ids compared as text, the unsigned byte order PostgreSQL sorts uuids by
+        assertThat(bounds)
+                .hasSize(64)
+                .doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.comparing(UUID::toString));
+    }
+
+    @Test
+    @DisplayName("should fail splitting the account id space into no range")
+    void failWhenNoChunks() {
+        // when
+        var thrown = catchThrowable(() -> MonthlySpendBackfill.bounds(0));
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("chunks must be at least 1");
+    }
+}
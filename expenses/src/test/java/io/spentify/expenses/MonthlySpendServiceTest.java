@@ -0,0 +1,77 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.vavr.api.VavrAssertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class MonthlySpendServiceTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final YearMonth MONTH = YearMonth.of(2024, 1);
+
+    Expenses expenses;
+    ExchangeRateStore exchangeRates;
+    MonthlySpendService service;
+
+    @BeforeEach
+    void setUp() {
+        expenses = Mockito.mock(Expenses.class);
+        exchangeRates = Mockito.mock(ExchangeRateStore.class);
+        service = new MonthlySpendService(expenses, exchangeRates, new FailureCounter(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("should convert every category and currency total once and merge them per category")
+    void summarizeInCurrency() {
+        // given
+        var accountId = UUID.randomUUID();
+        var food = UUID.randomUUID();
+        var fun = UUID.randomUUID();
+        when(expenses.findMonthlySpend(new AccountIdentifier(accountId), MONTH)).thenReturn(List.of(
+                new MonthlyCategorySpend(food, Amount.parse("20", USD), 3),
+                new MonthlyCategorySpend(fun, Amount.parse("15", EUR), 1),
+                new MonthlyCategorySpend(food, Amount.parse("10", EUR), 2)));
+        when(exchangeRates.current()).thenReturn(ExchangeRates.builder(EUR)
+                .rate(USD, LocalDate.of(2024, 1, 1), new BigDecimal("1.25"))
+                .build());
+
+        // when
+        var summary = service.summarize(accountId, MONTH, EUR);
+
+        // then
+        assertThat(summary).containsOnRight(List.of(
+                new MonthlyCategorySpend(food, Amount.parse("26", EUR), 5),
+                new MonthlyCategorySpend(fun, Amount.parse("15", EUR), 1)));
+    }
+
+    @Test
+    @DisplayName("should fail the summary when an exchange rate is missing")
+    void failWhenRateNotFound() {
+        // given
+        var accountId = UUID.randomUUID();
+        when(expenses.findMonthlySpend(new AccountIdentifier(accountId), MONTH)).thenReturn(List.of(
+                new MonthlyCategorySpend(UUID.randomUUID(), Amount.parse("20", USD), 3)));
+        when(exchangeRates.current()).thenReturn(ExchangeRates.empty(EUR));
+
+        // when
+        var summary = service.summarize(accountId, MONTH, EUR);
+
+        // then
+        assertThat(summary).containsOnLeft(Failure.ofNotFound("exchange rate from 'USD' to 'EUR' on 2024-01-31 not found"));
+    }
+}
@@ -0,0 +1,26 @@
+package io.spentify.expenses;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Case-insensitive lookup of a {@link Payment.Type} by its value.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=PaymentBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentBenchmark {
+
+    @Param({"Cash", "card"})
+    String value;
+
+    @Benchmark
+    public Payment.Type fromValue() {
+        return Payment.Type.fromValue(value);
+    }
+}
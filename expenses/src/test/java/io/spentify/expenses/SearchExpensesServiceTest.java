@@ -0,0 +1,141 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static io.spentify.expenses.SearchExpensesUseCase.SearchExpensesQuery.SearchExpensesQueryBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class SearchExpensesServiceTest {
+
+    Expenses expenses;
+    SearchExpensesService service;
+
+    @BeforeEach
+    void setUp() {
+        expenses = Mockito.mock(Expenses.class);
+        service = new SearchExpensesService(expenses);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    @NullSource
+    @DisplayName("should fail expenses search when 'q' is blank")
+    void failWhenQueryIsBlank(String q) {
+        // when
+        var thrown = catchThrowable(() -> validQuery().q(q).build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("q: q cannot be blank");
+    }
+
+    @Test
+    @DisplayName("should fail expenses search when 'q' is too long")
+    void failWhenQueryIsTooLong() {
+        // when
+        var thrown = catchThrowable(() -> validQuery().q("x".repeat(201)).build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("q: q must be at most 200 characters");
+    }
+
+    @Test
+    @DisplayName("should search the last page without a next cursor")
+    void searchLastPage() {
+        // given
+        var query = validQuery().limit(3).build();
+        var matches = matches(3);
+        when(expenses.search(any(SearchExpensesQuery.class), eq(4))).thenReturn(matches);
+
+        // when
+        var page = service.search(query);
+
+        // then
+        assertThat(page.matches()).isEqualTo(matches);
+        assertThat(page.next()).isNull();
+
+        // and: one extra row requested to detect a next page
+        verify(expenses).search(query, 4);
+    }
+
+    @Test
+    @DisplayName("should search a page with the cursor of its last match")
+    void searchPageWithNextCursor() {
+        // given
+        var query = validQuery().limit(3).build();
+        var matches = matches(4);
+        when(expenses.search(any(SearchExpensesQuery.class), eq(4))).thenReturn(matches);
+
+        // when
+        var page = service.search(query);
+
+        // then
+        var last = matches.get(2);
+        assertThat(page.matches()).isEqualTo(matches.subList(0, 3));
+        assertThat(page.next()).isEqualTo(new SearchCursor(last.rank(), last.expense().expenseDate(), last.expense().id()));
+    }
+
+    @Test
+    @DisplayName("should decode the cursor it encodes without losing rank precision")
+    void cursorRoundTrip() {
+        // given
+        var cursor = new SearchCursor(0.1f / 3, LocalDate.of(2023, 10, 13), UUID.randomUUID());
+
+        // when
+        var decoded = SearchCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a cursor", "MC41", "MC41fDIwMjMtMTAtMTM", "eHx5fHo"})
+    @DisplayName("should fail cursor decoding when the token is malformed")
+    void failWhenCursorIsMalformed(String token) {
+        // when
+        var thrown = catchThrowable(() -> SearchCursor.decode(token));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ExpenseMatch> matches(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ExpenseMatch(new ExpenseView(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                        Instant.now(), Amount.of(BigDecimal.TEN, "EUR"), Payment.Type.CARD, LocalDate.of(2023, 10, 13),
+                        "Uber ride " + i), 1f / (i + 1)))
+                .toList();
+    }
+
+    private SearchExpensesQueryBuilder validQuery() {
+        return SearchExpensesQuery.builder()
+                .accountId(UUID.randomUUID())
+                .q("uber")
+                .limit(20);
+    }
+}
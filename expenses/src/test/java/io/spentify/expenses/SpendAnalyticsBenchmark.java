@@ -0,0 +1,112 @@
+package io.spentify.expenses;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the latency of the dashboard aggregations of an account with {@code -Dbenchmark.account-rows} synthetic
+ * expenses, among {@code -Dbenchmark.rows} in total, computed by the database and by the {@link ExpenseColumnStore}.
+ * Run with {@code mvn verify -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+@SpringBootTest(classes = TestExpensesApplication.class)
+class SpendAnalyticsBenchmark extends TestContainersSetup {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ACCOUNT_ROWS = Integer.getInteger("benchmark.account-rows", 100_000);
+    private static final int WARMUP = 20;
+    private static final int AGGREGATIONS = 200;
+    private static final UUID ACCOUNT_ID = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+
+    private static final String GENERATE = """
+            INSERT INTO expenses (account_id, payment_type, amount, currency, expense_date, category_id)
+            SELECT CASE WHEN i %% ? = 0 THEN '%1$s'::UUID ELSE md5((i %% 999)::TEXT)::UUID END,
+                   CASE WHEN i %% 3 = 0 THEN 'CASH' ELSE 'CARD' END, 1 + i %% 100, 'EUR', DATE '2015-01-01' + i %% 3650,
+                   CASE WHEN i %% 7 = 0 THEN 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca' ELSE '3b257779-a5db-4e87-9365-72c6f8d4977d' END::UUID
+            FROM generate_series(1, ?) i
+            """;
+
+    @Autowired
+    Expenses expenses;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    ExpenseColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new ExpenseColumnStore(jdbcTemplate, new SimpleMeterRegistry(), DataSize.ofMegabytes(64));
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", value = {
+            "category, null, null, null, null",
+            "month, null, null, null, null",
+            "category, 2020-01-01, 2020-12-31, null, null",
+            "month, 2018-01-01, 2022-12-31, e2709aa2-7907-4f78-98b6-0f36a0c1b5ca, cash"})
+    @DisplayName("Should aggregate an account spend in memory faster than in the database")
+    @Sql("/persistence/create-expense-category.sql")
+    void aggregateLatency(String groupBy, LocalDate from, LocalDate to, UUID categoryId, String paymentType) {
+        // given: the synthetic expenses, generated once for every aggregation
+        if (jdbcTemplate.queryForObject("SELECT count(*) FROM expenses", Long.class) < ROWS) {
+            jdbcTemplate.update(GENERATE.formatted(ACCOUNT_ID), ROWS / ACCOUNT_ROWS, ROWS);
+            jdbcTemplate.execute("ANALYZE expenses");
+        }
+        var query = SpendQuery.builder()
+                .accountId(ACCOUNT_ID)
+                .from(from)
+                .to(to)
+                .categoryId(categoryId)
+                .paymentType(paymentType)
+                .groupBy(groupBy)
+                .build();
+
+        // when: the same aggregation is computed repeatedly by either
+        var sql = measure(() -> expenses.aggregate(query).size());
+        var columns = measure(() -> columnStore.aggregate(query).size());
+
+        // then: latency reported
+        log.info("rows={} accountRows={} groupBy={} from={} to={} categoryId={} paymentType={} "
+                        + "sql: p50={}ms p95={}ms, columns: p50={}ms p95={}ms",
+                ROWS, ACCOUNT_ROWS, groupBy, from, to, categoryId, paymentType,
+                sql[AGGREGATIONS / 2], sql[AGGREGATIONS * 95 / 100], columns[AGGREGATIONS / 2], columns[AGGREGATIONS * 95 / 100]);
+
+        // and
+        assertThat(columnStore.aggregate(query)).containsExactlyInAnyOrderElementsOf(expenses.aggregate(query));
+        assertThat(columns[AGGREGATIONS * 95 / 100]).isLessThan(sql[AGGREGATIONS / 2]);
+    }
+
+    private static double[] measure(Supplier<Integer> aggregation) {
+        for (var i = 0; i < WARMUP; i++) {
+            aggregation.get();
+        }
+        var millis = new double[AGGREGATIONS];
+        for (var i = 0; i < AGGREGATIONS; i++) {
+            var start = System.nanoTime();
+            aggregation.get();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+}
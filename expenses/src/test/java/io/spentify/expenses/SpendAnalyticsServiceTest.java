@@ -0,0 +1,101 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.SpendAnalyticsUseCase.SpendQuery;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class SpendAnalyticsServiceTest {
+
+    private static final UUID FOOD = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID FUN = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    Expenses expenses = Mockito.mock(Expenses.class);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "day", "categories"})
+    @NullSource
+    @DisplayName("should fail spend analytics when 'groupBy' is invalid")
+    void failWhenGroupByIsInvalid(String groupBy) {
+        // when
+        var thrown = catchThrowable(() -> SpendQuery.builder().accountId(UUID.randomUUID()).groupBy(groupBy).build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("groupBy: groupBy");
+    }
+
+    @Test
+    @DisplayName("should fail spend analytics when 'paymentType' is invalid")
+    void failWhenPaymentTypeIsInvalid() {
+        // when
+        var thrown = catchThrowable(() -> SpendQuery.builder().accountId(UUID.randomUUID()).paymentType("cheque").groupBy("month").build());
+
+        // then
+        assertThat(thrown)
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("paymentType: paymentType can be: 'cash', 'card'");
+    }
+
+    @Test
+    @DisplayName("should aggregate in the database highest total first when the column store is disabled")
+    void analyzePerCategoryInDatabase() {
+        // given
+        var service = new SpendAnalyticsService(expenses, Optional.empty());
+        when(expenses.aggregate(any(SpendQuery.class))).thenReturn(List.of(
+                new SpendGroup(FOOD, null, Amount.parse("5", "EUR"), 1),
+                new SpendGroup(FUN, null, Amount.parse("7", "USD"), 2),
+                new SpendGroup(FUN, null, Amount.parse("7", "EUR"), 1)));
+
+        // when
+        var groups = service.analyze(SpendQuery.builder().accountId(UUID.randomUUID()).groupBy("Category").build());
+
+        // then
+        assertThat(groups).containsExactly(
+                new SpendGroup(FUN, null, Amount.parse("7", "EUR"), 1),
+                new SpendGroup(FUN, null, Amount.parse("7", "USD"), 2),
+                new SpendGroup(FOOD, null, Amount.parse("5", "EUR"), 1));
+    }
+
+    @Test
+    @DisplayName("should aggregate in the column store oldest month first when enabled")
+    void analyzePerMonthInColumnStore() {
+        // given
+        var store = Mockito.mock(ExpenseColumnStore.class);
+        var service = new SpendAnalyticsService(expenses, Optional.of(store));
+        when(store.aggregate(any(SpendQuery.class))).thenReturn(List.of(
+                new SpendGroup(null, YearMonth.of(2024, 2), Amount.parse("1", "EUR"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("2", "USD"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("3", "EUR"), 1)));
+
+        // when
+        var groups = service.analyze(SpendQuery.builder().accountId(UUID.randomUUID()).groupBy("month").build());
+
+        // then
+        assertThat(groups).containsExactly(
+                new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("3", "EUR"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 1), Amount.parse("2", "USD"), 1),
+                new SpendGroup(null, YearMonth.of(2024, 2), Amount.parse("1", "EUR"), 1));
+
+        // and
+        verifyNoInteractions(expenses);
+    }
+}
@@ -0,0 +1,86 @@
+package io.spentify.expenses;
+
+import io.spentify.expenses.CreateExpenseUseCase.CreateExpenseCommand;
+import io.spentify.expenses.ImportStatementUseCase.ImportStatementCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares loading a bank statement through the COPY based import with creating its expenses one by one.
+ * Run with {@code mvn verify -Pbenchmark}, the statement size is set by {@code -Dbenchmark.rows}.
+ */
+@Tag("benchmark")
+@Slf4j
+@SpringBootTest(classes = TestExpensesApplication.class)
+class StatementImportBenchmark extends TestContainersSetup {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int CREATED_ROWS = 10_000;
+    private static final UUID ACCOUNT_ID = UUID.fromString("e2709aa2-7907-4f78-98b6-0f36a0c1b5ca");
+    private static final UUID CATEGORY_ID = UUID.fromString("3b257779-a5db-4e87-9365-72c6f8d4977d");
+
+    @Autowired
+    ImportStatementUseCase importStatementUseCase;
+
+    @Autowired
+    CreateExpenseUseCase createExpenseUseCase;
+
+    @Test
+    @DisplayName("Should report statement rows imported per second against one by one creation")
+    @Sql("/persistence/create-expense-category.sql")
+    void rowsImportedPerSecond() {
+        // given: a statement of ROWS lines
+        var statement = new StringBuilder("date,description,amount,payment_type\n");
+        for (var i = 0; i < ROWS; i++) {
+            statement.append("2023-10-13,Statement row ").append(i).append(',').append(1 + i % 100).append(".25,card\n");
+        }
+
+        // when: the statement is imported
+        var start = System.nanoTime();
+        var result = importStatementUseCase.importStatement(ImportStatementCommand.builder()
+                .accountId(ACCOUNT_ID)
+                .categoryId(CATEGORY_ID)
+                .statement(new StringReader(statement.toString()))
+                .dateColumn("date")
+                .amountColumn("amount")
+                .descriptionColumn("description")
+                .paymentTypeColumn("payment_type")
+                .build());
+        var imported = Duration.ofNanos(System.nanoTime() - start);
+
+        // and: a sample of the rows is created one by one
+        start = System.nanoTime();
+        for (var i = 0; i < CREATED_ROWS; i++) {
+            createExpenseUseCase.create(CreateExpenseCommand.builder()
+                    .accountId(ACCOUNT_ID)
+                    .categoryId(CATEGORY_ID)
+                    .amount(BigDecimal.valueOf(1 + i % 100))
+                    .paymentType(Payment.Type.CARD.value)
+                    .expenseDate(LocalDate.of(2023, 10, 13))
+                    .description("Created row " + i)
+                    .build());
+        }
+        var created = Duration.ofNanos(System.nanoTime() - start);
+
+        // then: every row is imported
+        assertThat(result.get().imported()).isEqualTo(ROWS);
+
+        // and: throughput reported
+        log.info("rows={} import elapsed={}ms rows/s={}, one by one rows={} elapsed={}ms rows/s={}",
+                ROWS, imported.toMillis(), ROWS * 1_000L / Math.max(1, imported.toMillis()),
+                CREATED_ROWS, created.toMillis(), CREATED_ROWS * 1_000L / Math.max(1, created.toMillis()));
+    }
+}
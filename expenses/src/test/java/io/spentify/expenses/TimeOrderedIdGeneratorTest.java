@@ -0,0 +1,99 @@
+package io.spentify.expenses;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("should generate version 7 UUIDs of the current Unix millisecond")
+    void generateVersion7() {
+        // given
+        var generator = new TimeOrderedIdGenerator(() -> NOW);
+
+        // when
+        var id = generator.next();
+
+        // then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("should generate increasing UUIDs past the counter of a millisecond and when the clock goes backwards")
+    void generateIncreasing() {
+        // given
+        var clock = new AtomicLong(NOW);
+        var generator = new TimeOrderedIdGenerator(clock::get);
+        var ids = new ArrayList<UUID>();
+
+        // when
+        for (var i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+        clock.set(NOW - 1_000);
+        ids.add(generator.next());
+        clock.set(NOW + 1_000);
+        ids.add(generator.next());
+
+        // then
+        assertThat(ids).isSortedAccordingTo(TimeOrderedIdGeneratorTest::compareUnsigned);
+        assertThat(ids.getLast().getMostSignificantBits() >>> 16).isEqualTo(NOW + 1_000);
+    }
+
+    @Test
+    @DisplayName("should generate unique UUIDs, increasing on every thread, when generated concurrently")
+    void generateConcurrently() throws Exception {
+        // given
+        var generator = IdGenerator.timeOrdered();
+        Callable<List<UUID>> generate = () -> {
+            var ids = new ArrayList<UUID>();
+            for (var i = 0; i < 50_000; i++) {
+                ids.add(generator.next());
+            }
+            return ids;
+        };
+
+        // when
+        List<List<UUID>> generated;
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var futures = executor.invokeAll(Collections.nCopies(4, generate));
+            generated = new ArrayList<>();
+            for (var future : futures) {
+                generated.add(future.get());
+            }
+        }
+
+        // then
+        var unique = new HashSet<UUID>();
+        for (var ids : generated) {
+            assertThat(ids).isSortedAccordingTo(TimeOrderedIdGeneratorTest::compareUnsigned);
+            unique.addAll(ids);
+        }
+        assertThat(unique).hasSize(200_000);
+    }
+
+    /**
+     * Compares as PostgreSQL does, unlike {@link UUID#compareTo} that compares the halves as signed longs.
+     */
+    private static int compareUnsigned(UUID a, UUID b) {
+        var msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
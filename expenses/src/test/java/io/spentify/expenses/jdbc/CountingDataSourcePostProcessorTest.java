@@ -0,0 +1,102 @@
+package io.spentify.expenses.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static io.spentify.expenses.jdbc.StatementCountsAssert.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+class CountingDataSourcePostProcessorTest {
+
+    DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var connection = Mockito.mock(Connection.class);
+        var prepared = Mockito.mock(PreparedStatement.class);
+        var statement = Mockito.mock(Statement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(prepared);
+        when(connection.createStatement()).thenReturn(statement);
+        when(prepared.executeUpdate()).thenReturn(1);
+        when(prepared.executeBatch()).thenReturn(new int[]{1, 1, Statement.SUCCESS_NO_INFO});
+        when(statement.executeUpdate(anyString())).thenReturn(3);
+
+        var target = Mockito.mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = (DataSource) new CountingDataSourcePostProcessor().postProcessAfterInitialization(target, "dataSource");
+    }
+
+    @Test
+    @DisplayName("should count every round trip, its kind and the rows it changed")
+    void countStatements() throws SQLException {
+        // when
+        try (var counts = StatementCounts.open()) {
+            try (var connection = dataSource.getConnection()) {
+                connection.prepareStatement("select * from expenses where id = ?").executeQuery();
+                connection.prepareStatement("insert into expenses (id) values (?)").executeUpdate();
+                var batch = connection.prepareStatement("insert into expense_category (id) values (?)");
+                batch.addBatch();
+                batch.addBatch();
+                batch.executeBatch();
+                connection.createStatement().executeUpdate("DELETE FROM budget");
+            }
+
+            // then
+            assertStatements(counts)
+                    .hasSelects(1)
+                    .hasInserts(2)
+                    .hasDeletes(1)
+                    .hasStatements(4)
+                    .hasBatches(1)
+                    .hasRows(6);
+        }
+    }
+
+    @Test
+    @DisplayName("should count the statements of the innermost scope and none outside a scope")
+    void countInnermostScope() throws SQLException {
+        // given
+        dataSource.getConnection().prepareStatement("select 1").executeQuery();
+
+        // when
+        try (var outer = StatementCounts.open()) {
+            try (var inner = StatementCounts.open()) {
+                dataSource.getConnection().prepareStatement("select 1").executeQuery();
+
+                // then
+                assertStatements(inner).hasSelects(1);
+            }
+            assertStatements(outer).hasStatements(0);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "select 1                                                              | SELECT",
+            "  SELECT id FROM expenses                                             | SELECT",
+            "insert into expenses (id) values (?)                                  | INSERT",
+            "UPDATE budget SET monthly_limit = ?                                   | UPDATE",
+            "delete from budget where category_id = ?                              | DELETE",
+            "WITH inserted AS (INSERT INTO expenses SELECT 1 RETURNING 1) SELECT 1 | INSERT",
+            "with recent as (select 1) select * from recent                        | SELECT",
+            "SET LOCAL statement_timeout = 0                                       | OTHER"})
+    @DisplayName("should classify the statement by its first keyword, or the first write of a common table expression")
+    void classifyStatements(String sql, StatementCounts.Type expected) {
+        // expect
+        assertThat(StatementCounts.Type.of(sql)).isEqualTo(expected);
+    }
+}
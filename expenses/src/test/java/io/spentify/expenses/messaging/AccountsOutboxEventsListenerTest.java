@@ -1,7 +1,9 @@
 package io.spentify.expenses.messaging;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.spentify.expenses.*;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -9,7 +11,9 @@ import org.rnorth.ducttape.unreliables.Unreliables;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -25,13 +29,14 @@ class AccountsOutboxEventsListenerTest extends TestContainersSetup {
 
     @Test
     @DisplayName("Should create default categories on account created event")
-    void onAccountCreated(@Autowired Categories categories) {
+    void onAccountCreated(@Autowired Categories categories, @Autowired MeterRegistry meterRegistry) {
         // given: an account created event
         var accountCreated = accountCreatedEvent();
 
         // when: account create event submitted
         try (var producer = kafkaProducer()) {
-            var record = new ProducerRecord<UUID, Object>("account.outbox.events", randomUUID(), accountCreated);
+            var eventTimestamp = new RecordHeader(PropagationLatency.EVENT_TIMESTAMP, PropagationLatency.format(Instant.now()));
+            var record = new ProducerRecord<UUID, Object>("account.outbox.events", null, randomUUID(), accountCreated, List.of(eventTimestamp));
             producer.send(record);
             producer.flush();
         }
@@ -51,6 +56,10 @@ class AccountsOutboxEventsListenerTest extends TestContainersSetup {
         assertThat(actualCategories)
                 .extracting(Category::getName, Category::getAccount)
                 .containsExactlyInAnyOrderElementsOf(expectedCategories);
+
+        // and: the processing time and the propagation latency of the event are measured
+        assertThat(meterRegistry.get("accounts.outbox.events.processing").timeGauge().value(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(meterRegistry.get("accounts.outbox.events.propagation").timer().count()).isEqualTo(1);
     }
 
     private AccountCreated accountCreatedEvent() {
@@ -0,0 +1,97 @@
+package io.spentify.expenses.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.spentify.expenses.DefaultCategories;
+import io.spentify.expenses.TestContainersSetup;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.spentify.expenses.messaging.AccountsOutboxEventsListener.AccountCreated;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how many accounts per second get their default categories seeded by the active listener mode, and the p50
+ * and p99 latency from each event being written to its account being seeded, with the peak consumer lag per partition.
+ * Events are stamped with the time they are produced, standing in for the accounts outbox write, so the latency
+ * covers Kafka and the expenses side; the accounts side is measured by the accounts outbox benchmarks.
+ * Run with {@code mvn verify -Pbenchmark}, the number of accounts is set by {@code -Dbenchmark.accounts}.
+ */
+@Tag("benchmark")
+@Slf4j
+abstract class AccountsSeedingBenchmark extends TestContainersSetup {
+
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.accounts", 10_000);
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    @Value("${spring.kafka.listener.type}")
+    String mode;
+
+    @Test
+    @DisplayName("Should report accounts seeded per second and the write-to-seeded latency")
+    void accountsSeededPerSecond(@Autowired JdbcTemplate jdbcTemplate, @Autowired MeterRegistry meterRegistry) throws InterruptedException {
+        // given: expected categories once all accounts are seeded
+        var expected = (long) ACCOUNTS * DefaultCategories.values().length;
+
+        // when: account created events submitted
+        var start = System.nanoTime();
+        try (var producer = kafkaProducer()) {
+            for (var i = 0; i < ACCOUNTS; i++) {
+                var event = AccountCreated.builder()
+                        .accountId(randomUUID())
+                        .firstName("Jon")
+                        .lastName("Snow")
+                        .emailAddress("jonsnow@email.com")
+                        .build();
+                var eventTimestamp = new RecordHeader(PropagationLatency.EVENT_TIMESTAMP, PropagationLatency.format(Instant.now()));
+                producer.send(new ProducerRecord<UUID, Object>("account.outbox.events", null, randomUUID(), event, List.of(eventTimestamp)));
+            }
+            producer.flush();
+        }
+
+        // then: every account gets its default categories
+        var deadline = start + TIMEOUT.toNanos();
+        var peakLag = new TreeMap<String, Double>();
+        long actual;
+        while ((actual = count(jdbcTemplate)) < expected && System.nanoTime() < deadline) {
+            meterRegistry.find("kafka.consumer.fetch.manager.records.lag").gauges().forEach(lag ->
+                    peakLag.merge(lag.getId().getTag("topic") + "-" + lag.getId().getTag("partition"), lag.value(), Math::max));
+            Thread.sleep(50);
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertThat(actual).isEqualTo(expected);
+
+        // and: the latency of every account recorded once its seeding committed
+        var latency = meterRegistry.get("accounts.outbox.events.propagation").timer();
+        while (latency.count() < ACCOUNTS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(latency.count()).isEqualTo(ACCOUNTS);
+
+        // and: throughput, latency and lag reported
+        log.info("mode={} accounts={} elapsed={}ms accounts/s={}", mode, ACCOUNTS, elapsed.toMillis(),
+                ACCOUNTS * 1_000L / Math.max(1, elapsed.toMillis()));
+        for (var percentile : latency.takeSnapshot().percentileValues()) {
+            log.info("mode={} p{}={}ms", mode, Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+        }
+        log.info("mode={} peak records-lag per partition={}", mode, peakLag);
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM expense_category", Long.class);
+    }
+}
@@ -0,0 +1,81 @@
+package io.spentify.expenses.messaging;
+
+import io.spentify.expenses.DefaultCategories;
+import io.spentify.expenses.TestContainersSetup;
+import io.spentify.expenses.TestExpensesApplication;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.rnorth.ducttape.unreliables.Unreliables;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.spentify.expenses.messaging.AccountsOutboxEventsListener.AccountCreated;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest(classes = TestExpensesApplication.class)
+class ProcessedEventsTest extends TestContainersSetup {
+
+    @Autowired
+    ProcessedEvents processedEvents;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should claim an event only once")
+    void claimOnce() {
+        // given: an aggregate
+        var aggregateId = randomUUID();
+
+        // when: claimed twice
+        var first = processedEvents.claim(AccountCreated.TYPE, List.of(aggregateId, aggregateId));
+        var second = processedEvents.claim(AccountCreated.TYPE, List.of(aggregateId));
+
+        // then: only the first claim succeeds
+        assertThat(first).containsExactly(aggregateId);
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should seed default categories once on redelivered account created event")
+    void onRedeliveredAccountCreated() {
+        // given: an account created event
+        var accountCreated = AccountCreated.builder()
+                .accountId(randomUUID())
+                .firstName("Jon")
+                .lastName("Snow")
+                .emailAddress("jonsnow@email.com")
+                .build();
+
+        // when: account created event delivered twice
+        try (var producer = kafkaProducer()) {
+            producer.send(new ProducerRecord<UUID, Object>("account.outbox.events", accountCreated.accountId(), accountCreated));
+            producer.send(new ProducerRecord<UUID, Object>("account.outbox.events", accountCreated.accountId(), accountCreated));
+            producer.flush();
+        }
+
+        // then: event is processed once
+        Unreliables.retryUntilTrue(10, TimeUnit.SECONDS, () -> processed(accountCreated.accountId()) == 1);
+
+        // and: default categories are seeded once
+        assertThat(categories(accountCreated.accountId())).isEqualTo(DefaultCategories.values().length);
+    }
+
+    private long processed(UUID accountId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM processed_event WHERE aggregate_id = ? AND type = ?",
+                Long.class, accountId.toString(), AccountCreated.TYPE);
+    }
+
+    private long categories(UUID accountId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM expense_category WHERE account_id = ?", Long.class, accountId);
+    }
+}
@@ -0,0 +1,88 @@
+package io.spentify.expenses.messaging;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class PropagationLatencyTest {
+
+    SimpleMeterRegistry meterRegistry;
+    PropagationLatency propagationLatency;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        propagationLatency = new PropagationLatency(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should read back the microseconds of the event timestamp header")
+    void formatAndParse() {
+        // given
+        var timestamp = Instant.parse("2024-01-31T10:15:30.123456Z");
+
+        // when
+        var header = PropagationLatency.format(timestamp);
+
+        // then
+        assertThat(new String(header, StandardCharsets.US_ASCII)).isEqualTo("1706696130123456");
+        assertThat(PropagationLatency.parse(header)).isEqualTo(timestamp);
+    }
+
+    @Test
+    @DisplayName("should record the latency of every event with a valid header")
+    void recordValidHeaders() {
+        // given
+        var written = Instant.now().minusSeconds(2);
+
+        // when
+        propagationLatency.seeded(Arrays.asList(PropagationLatency.format(written), null, "oops".getBytes(StandardCharsets.US_ASCII)));
+
+        // then
+        assertThat(latency().count()).isEqualTo(1);
+        assertThat(latency().totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should record the latency only once the seeding transaction commits")
+    void recordAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        propagationLatency.seeded(List.of(PropagationLatency.format(Instant.now())));
+
+        // then
+        assertThat(latency().count()).isZero();
+
+        // and: recorded on commit
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        assertThat(latency().count()).isEqualTo(1);
+    }
+
+    private Timer latency() {
+        return meterRegistry.get("accounts.outbox.events.propagation").timer();
+    }
+}
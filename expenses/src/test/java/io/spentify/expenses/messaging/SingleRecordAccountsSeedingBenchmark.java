@@ -0,0 +1,8 @@
+package io.spentify.expenses.messaging;
+
+import io.spentify.expenses.TestExpensesApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = TestExpensesApplication.class, properties = "spring.kafka.listener.type=single")
+class SingleRecordAccountsSeedingBenchmark extends AccountsSeedingBenchmark {
+}
@@ -0,0 +1,50 @@
+package io.spentify.expenses.web;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.spentify.expenses.Amount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@Tag("unit")
+class AmountJsonComponentTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(Amount.class, new AmountJsonComponent.Serializer())
+            .addDeserializer(Amount.class, new AmountJsonComponent.Deserializer()));
+
+    @Test
+    @DisplayName("should write the amount as a number next to its currency")
+    void serialize() throws Exception {
+        // when
+        var json = objectMapper.writeValueAsString(Amount.parse("12.5", "EUR"));
+
+        // then
+        assertThat(json).isEqualTo("{\"amount\":12.5000,\"currency\":\"EUR\"}");
+    }
+
+    @Test
+    @DisplayName("should read the amount from a number or a string")
+    void deserialize() throws Exception {
+        // expect
+        assertThat(objectMapper.readValue("{\"currency\":\"EUR\",\"amount\":12.5}", Amount.class))
+                .isEqualTo(Amount.parse("12.5", "EUR"));
+        assertThat(objectMapper.readValue("{\"amount\":\"12.5\",\"currency\":\"EUR\",\"other\":[1]}", Amount.class))
+                .isEqualTo(Amount.parse("12.5", "EUR"));
+    }
+
+    @Test
+    @DisplayName("should reject an amount without a currency or with too many fraction digits")
+    void deserializeInvalid() {
+        // expect
+        assertThat(catchThrowable(() -> objectMapper.readValue("{\"amount\":12.5}", Amount.class)))
+                .isInstanceOf(JsonMappingException.class);
+        assertThat(catchThrowable(() -> objectMapper.readValue("{\"amount\":0.00001,\"currency\":\"EUR\"}", Amount.class)))
+                .isInstanceOf(JsonMappingException.class);
+    }
+}
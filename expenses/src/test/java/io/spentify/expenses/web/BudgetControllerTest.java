@@ -0,0 +1,116 @@
+package io.spentify.expenses.web;
+
+import io.spentify.expenses.TestContainersSetup;
+import io.spentify.expenses.TestExpensesApplication;
+import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.skyscreamer.jsonassert.JSONCompareMode.LENIENT;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+@Tag("integration")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestExpensesApplication.class)
+class BudgetControllerTest extends TestContainersSetup {
+
+    static final String ACCOUNT_ID = "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca";
+    static final String FOOD_ID = "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca";
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("should set, list and delete the budget of a category, warning on the expense over it")
+    @Sql("/persistence/create-expense-category.sql")
+    void manageBudget() throws JSONException {
+        // when
+        var set = putBudget(FOOD_ID, """
+                {"accountId": "%s", "monthlyLimit": 20.5, "currency": "EUR"}
+                """.formatted(ACCOUNT_ID));
+
+        // then
+        assertThat(set.getStatusCode()).isEqualTo(OK);
+        JSONAssert.assertEquals("""
+                {"categoryId": "%s", "accountId": "%s", "monthlyLimit": 20.5, "currency": "EUR"}
+                """.formatted(FOOD_ID, ACCOUNT_ID), set.getBody(), LENIENT);
+
+        // and
+        var created = postNewExpense("""
+                {"accountId": "%s", "categoryId": "%s", "paymentType": "Card", "amount": 25, "expenseDate": "2022-11-20"}
+                """.formatted(ACCOUNT_ID, FOOD_ID));
+        assertThat(created.getStatusCode()).isEqualTo(CREATED);
+        JSONAssert.assertEquals("""
+                {"budgetWarning": {"month": "2022-11", "limit": {"amount": 20.5, "currency": "EUR"}, "spent": {"amount": 25, "currency": "EUR"}}}
+                """, created.getBody(), LENIENT);
+
+        // and
+        var list = restTemplate.getForEntity("/v1/budgets?accountId={accountId}&month=2022-11", String.class, ACCOUNT_ID);
+        assertThat(list.getStatusCode()).isEqualTo(OK);
+        JSONAssert.assertEquals("""
+                {"accountId": "%s", "budgets": [{"categoryId": "%s", "month": "2022-11", "exceeded": true}]}
+                """.formatted(ACCOUNT_ID, FOOD_ID), list.getBody(), LENIENT);
+
+        // and
+        assertThat(deleteBudget(FOOD_ID).getStatusCode()).isEqualTo(NO_CONTENT);
+        assertThat(deleteBudget(FOOD_ID).getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("should fail setting the budget of a category of another account")
+    void failWhenCategoryAccountNotFound() {
+        // when
+        var resp = putBudget(UUID.randomUUID().toString(), """
+                {"accountId": "%s", "monthlyLimit": 20}
+                """.formatted(ACCOUNT_ID));
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("should fail setting a budget when the limit is not positive")
+    void failWhenLimitNotPositive() {
+        // when
+        var resp = putBudget(FOOD_ID, """
+                {"accountId": "%s", "monthlyLimit": -1}
+                """.formatted(ACCOUNT_ID));
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(UNPROCESSABLE_ENTITY);
+    }
+
+    private ResponseEntity<String> putBudget(String categoryId, String request) {
+        var headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_JSON);
+        return restTemplate.exchange("/v1/budgets/{categoryId}", HttpMethod.PUT, new HttpEntity<>(request, headers), String.class, categoryId);
+    }
+
+    private ResponseEntity<String> deleteBudget(String categoryId) {
+        return restTemplate.exchange("/v1/budgets/{categoryId}?accountId={accountId}", HttpMethod.DELETE, null, String.class, categoryId, ACCOUNT_ID);
+    }
+
+    private ResponseEntity<String> postNewExpense(String request) {
+        var headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_JSON);
+        return restTemplate.postForEntity("/v1/expenses", new HttpEntity<>(request, headers), String.class);
+    }
+}
@@ -10,23 +10,38 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
 import static io.spentify.expenses.web.JsonPayloads.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.skyscreamer.jsonassert.JSONCompareMode.LENIENT;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 
 @Tag("integration")
 @SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestExpensesApplication.class)
 class ExpenseControllerTest extends TestContainersSetup {
 
+    static final String ACCOUNT_ID = "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca";
+
     @Autowired
     TestRestTemplate restTemplate;
 
@@ -66,6 +81,175 @@ class ExpenseControllerTest extends TestContainersSetup {
         JSONAssert.assertEquals(expectedCreateValidationFailure(), resp.getBody(), LENIENT);
     }
 
+    @Test
+    @DisplayName("should create a batch of expenses reporting the outcome of every item")
+    @Sql("/persistence/create-expense-category.sql")
+    void createExpensesBatch() throws JSONException {
+        // given
+        var request = batchCreateExpensesRequest();
+
+        // when
+        var resp = postExpensesBatch(request, APPLICATION_JSON);
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(OK);
+        assertThat(resp.getHeaders().getContentType()).isEqualTo(APPLICATION_NDJSON);
+
+        // and
+        assertBatchResults(resp.getBody(), expectedBatchCreateResults());
+    }
+
+    @Test
+    @DisplayName("should create a batch of newline-delimited expenses up to a malformed item")
+    @Sql("/persistence/create-expense-category.sql")
+    void createNdjsonExpensesBatch() throws JSONException {
+        // given
+        var request = batchCreateExpensesNdjsonRequest();
+
+        // when
+        var resp = postExpensesBatch(request, APPLICATION_NDJSON);
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(OK);
+
+        // and
+        assertBatchResults(resp.getBody(), expectedBatchCreateNdjsonResults());
+    }
+
+    @Test
+    @DisplayName("should import the valid rows of a bank statement")
+    @Sql("/persistence/create-expense-category.sql")
+    void importStatement() throws IOException, JSONException {
+        // given
+        var statement = new ClassPathResource("statements/bank-statement.csv").getContentAsString(UTF_8);
+
+        // when
+        var resp = postStatement(statement, "3b257779-a5db-4e87-9365-72c6f8d4977d");
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(OK);
+
+        // and
+        JSONAssert.assertEquals("""
+                {"rows": 9, "imported": 3, "rejected": 6}
+                """, resp.getBody(), LENIENT);
+    }
+
+    @Test
+    @DisplayName("should fail statement import when category of the account not found")
+    void failImportWhenCategoryAccountNotFound() {
+        // when
+        var resp = postStatement("date,amount\n2023-10-13,10\n", UUID.randomUUID().toString());
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("should export every expense of the account as CSV")
+    @Sql("/persistence/create-expense-category.sql")
+    void exportCsv() {
+        // given
+        postNewExpense(validCreateExpenseRequest());
+
+        // when
+        var resp = restTemplate.getForEntity("/v1/expenses/export?accountId={accountId}&format=csv", String.class, ACCOUNT_ID);
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(OK);
+        assertThat(resp.getHeaders().getContentDisposition().getFilename()).isEqualTo("expenses-%s.csv".formatted(ACCOUNT_ID));
+
+        // and
+        var lines = resp.getBody().lines().toList();
+        assertThat(lines.get(0)).isEqualTo("expense_id,account_id,category_id,creation_timestamp,date,amount,currency,payment_type,description");
+        assertThat(lines.subList(1, lines.size()))
+                .isNotEmpty()
+                .allSatisfy(line -> assertThat(line).contains("," + ACCOUNT_ID + ","))
+                .anySatisfy(line -> assertThat(line).endsWith(",2023-10-13,10.0000,EUR,Cash,Books buying"));
+    }
+
+    @Test
+    @DisplayName("should import an export back as is, currencies included")
+    @Sql("/persistence/create-expense-category.sql")
+    void importExportBack() {
+        // given
+        postNewExpense(validCreateExpenseRequest()
+                .replace("\"amount\"     : 10.0,", "\"amount\"     : 10.0, \"currency\": \"USD\",")
+                .replace("Books buying", "Round trip"));
+        var export = restTemplate.getForObject("/v1/expenses/export?accountId={accountId}&format=csv", String.class, ACCOUNT_ID);
+
+        // when
+        var resp = postStatement(export, "3b257779-a5db-4e87-9365-72c6f8d4977d");
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(OK);
+
+        // and: every imported expense keeps its currency
+        var reexport = restTemplate.getForObject("/v1/expenses/export?accountId={accountId}&format=csv", String.class, ACCOUNT_ID);
+        assertThat(reexport.lines().filter(line -> line.contains(",Round trip")))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).endsWith(",2023-10-13,10.0000,USD,Cash,Round trip"));
+    }
+
+    @Test
+    @DisplayName("should export every expense of the account as gzip compressed NDJSON")
+    @Sql("/persistence/create-expense-category.sql")
+    void exportGzipNdjson() throws IOException, JSONException {
+        // given
+        postNewExpense(validCreateExpenseRequest());
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // when
+        var resp = restTemplate.exchange("/v1/expenses/export?accountId={accountId}&format=NDJSON", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class, ACCOUNT_ID);
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(OK);
+        assertThat(resp.getHeaders().getContentType()).isEqualTo(APPLICATION_NDJSON);
+        assertThat(resp.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        // and
+        try (var body = new GZIPInputStream(new ByteArrayInputStream(resp.getBody()))) {
+            var created = new String(body.readAllBytes(), UTF_8).lines()
+                    .filter(line -> line.contains("Books buying"))
+                    .findFirst();
+            assertThat(created).isPresent();
+            JSONAssert.assertEquals(expectedCreatedExpense(), created.get(), LENIENT);
+        }
+    }
+
+    @Test
+    @DisplayName("should fail export when the format is unknown")
+    void failExportWhenFormatIsUnknown() {
+        // when
+        var resp = restTemplate.getForEntity("/v1/expenses/export?accountId={accountId}&format=xml", String.class, ACCOUNT_ID);
+
+        // then
+        assertThat(resp.getStatusCode()).isEqualTo(BAD_REQUEST);
+    }
+
+    private ResponseEntity<String> postStatement(String statement, String categoryId) {
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(ExpenseController.TEXT_CSV_VALUE));
+        return restTemplate.postForEntity("/v1/expenses/import?accountId={accountId}&categoryId={categoryId}",
+                new HttpEntity<>(statement, headers), String.class, "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca", categoryId);
+    }
+
+    private static void assertBatchResults(String body, String[] expected) throws JSONException {
+        var results = body.lines().toList();
+        assertThat(results).hasSize(expected.length);
+        for (var i = 0; i < expected.length; i++) {
+            JSONAssert.assertEquals(expected[i], results.get(i), LENIENT);
+        }
+    }
+
+    private ResponseEntity<String> postExpensesBatch(String request, MediaType contentType) {
+        var headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        return restTemplate.postForEntity("/v1/expenses/batch", new HttpEntity<>(request, headers), String.class);
+    }
+
     private ResponseEntity<String> postNewExpense(String request) {
         var headers = new HttpHeaders();
         headers.setContentType(APPLICATION_JSON);
@@ -0,0 +1,106 @@
+package io.spentify.expenses.web;
+
+import io.spentify.expenses.TestContainersSetup;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.spentify.expenses.web.JsonPayloads.validCreateExpenseRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Measures throughput and latency of {@code POST /v1/expenses} under high concurrency for the active thread mode.
+ * Run with {@code mvn verify -Pbenchmark}, load is set by {@code -Dbenchmark.requests} and
+ * {@code -Dbenchmark.concurrency}.
+ */
+@Tag("benchmark")
+@Slf4j
+abstract class ExpenseCreationBenchmark extends TestContainersSetup {
+
+    private static final int WARMUP_REQUESTS = 1_000;
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+
+    @LocalServerPort
+    int port;
+
+    @Value("${server.servlet.context-path}")
+    String contextPath;
+
+    @Value("${spring.threads.virtual.enabled}")
+    boolean virtualThreads;
+
+    @Test
+    @DisplayName("Should report expenses created per second and latency percentiles")
+    @Sql("/persistence/create-expense-category.sql")
+    void expensesCreatedPerSecond() {
+        // given: a client able to keep every request in flight
+        var client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:%d%s/v1/expenses".formatted(port, contextPath)))
+                .header("Content-Type", APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(validCreateExpenseRequest()))
+                .build();
+        run(client, request, WARMUP_REQUESTS, new long[WARMUP_REQUESTS]);
+
+        // when: expenses created concurrently
+        var latencies = new long[REQUESTS];
+        var start = System.nanoTime();
+        var failures = run(client, request, REQUESTS, latencies);
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then: every expense is created
+        assertThat(failures).isZero();
+
+        // and: throughput and latency reported
+        Arrays.sort(latencies);
+        log.info("virtualThreads={} requests={} concurrency={} elapsed={}ms requests/s={} latency p50={}ms p99={}ms max={}ms",
+                virtualThreads, REQUESTS, CONCURRENCY, elapsed.toMillis(), REQUESTS * 1_000L / Math.max(1, elapsed.toMillis()),
+                millis(latencies, 0.50), millis(latencies, 0.99), millis(latencies, 1.0));
+    }
+
+    private static int run(HttpClient client, HttpRequest request, int requests, long[] latencies) {
+        var next = new AtomicInteger();
+        var failures = new AtomicInteger();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var worker = 0; worker < CONCURRENCY; worker++) {
+                executor.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        var start = System.nanoTime();
+                        try {
+                            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 201) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                });
+            }
+        }
+        return failures.get();
+    }
+
+    private static long millis(long[] sortedNanos, double percentile) {
+        var index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return Duration.ofNanos(sortedNanos[Math.max(0, index)]).toMillis();
+    }
+}
@@ -0,0 +1,61 @@
+package io.spentify.expenses.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spentify.expenses.web.ExpenseController.ExpenseResource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+
+/**
+ * JSON (de)serialization of an {@link ExpenseResource} with a mapper configured like the application's one.
+ * Run with {@code mvn test-compile exec:exec -Pjmh -Djmh.includes=ExpenseResourceBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseResourceBenchmark {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(NON_EMPTY)
+            .build();
+
+    private ExpenseResource resource;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        resource = ExpenseResource.builder()
+                .expenseId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .categoryId(UUID.randomUUID())
+                .creationTimestamp(Instant.now())
+                .amount(BigDecimal.valueOf(12.5))
+                .currency("EUR")
+                .paymentType("Card")
+                .expenseDate(LocalDate.now())
+                .description("Coffee")
+                .build();
+        json = mapper.writeValueAsBytes(resource);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(resource);
+    }
+
+    @Benchmark
+    public ExpenseResource deserialize() throws IOException {
+        return mapper.readValue(json, ExpenseResource.class);
+    }
+}
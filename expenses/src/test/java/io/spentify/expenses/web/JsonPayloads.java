@@ -76,4 +76,112 @@ final class JsonPayloads {
                 }
                 """;
     }
+
+    public static String batchCreateExpensesRequest() {
+        return """
+                [
+                    {
+                        "accountId"  : "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca",
+                        "categoryId" : "3b257779-a5db-4e87-9365-72c6f8d4977d",
+                        "paymentType": "Cash",
+                        "amount"     : 10.0,
+                        "expenseDate": "2023-10-13",
+                        "description": "Books buying"
+                    },
+                    {
+                        "accountId"  : "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca",
+                        "categoryId" : "1a1c9f6e-4e52-4a7b-9e2c-a7f9e1c7b7a1",
+                        "paymentType": "Card",
+                        "amount"     : 5.0,
+                        "expenseDate": "2023-10-14"
+                    },
+                    {
+                        "accountId"  : "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca",
+                        "categoryId" : "not-a-uuid",
+                        "paymentType": "Card",
+                        "amount"     : 5.0,
+                        "expenseDate": "2023-10-14"
+                    },
+                    {
+                        "paymentType": "C a s h",
+                        "amount"     : -10.0
+                    }
+                ]
+                """;
+    }
+
+    public static String batchCreateExpensesNdjsonRequest() {
+        return """
+                {"accountId":"e2709aa2-7907-4f78-98b6-0f36a0c1b5ca","categoryId":"3b257779-a5db-4e87-9365-72c6f8d4977d","paymentType":"Cash","amount":10.0,"expenseDate":"2023-10-13","description":"Books buying"}
+                {"accountId":"e2709aa2-7907-4f78-98b6-0f36a0c1b5ca","categoryId":"e2709aa2-7907-4f78-98b6-0f36a0c1b5ca","paymentType":"Card","amount":7.5,"expenseDate":"2023-10-14"}
+                {"accountId":"e2709aa2-7907-4f78-98b6-0f36a0c1b5ca","categoryId":
+                """;
+    }
+
+    public static String[] expectedBatchCreateResults() {
+        return new String[]{
+                """
+                {
+                    "index" : 0,
+                    "status": 201,
+                    "expense": {
+                        "accountId"  : "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca",
+                        "categoryId" : "3b257779-a5db-4e87-9365-72c6f8d4977d",
+                        "paymentType": "Cash",
+                        "amount"     : 10.0,
+                        "currency"   : "EUR",
+                        "expenseDate": "2023-10-13",
+                        "description": "Books buying"
+                    }
+                }
+                """,
+                """
+                {
+                    "index" : 1,
+                    "status": 404,
+                    "error" : {
+                        "status"   : 404,
+                        "errorCode": "NOT_FOUND",
+                        "message"  : "category id '1a1c9f6e-4e52-4a7b-9e2c-a7f9e1c7b7a1' for account id 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca' not found"
+                    }
+                }
+                """,
+                """
+                {
+                    "index" : 2,
+                    "status": 400,
+                    "error" : {
+                        "status"   : 400,
+                        "errorCode": "BAD_REQUEST",
+                        "message"  : "Malformed JSON item"
+                    }
+                }
+                """,
+                """
+                {
+                    "index" : 3,
+                    "status": 422,
+                    "error" : {
+                        "status"   : 422,
+                        "errorCode": "UNPROCESSABLE_ENTITY",
+                        "message"  : "Schema validation failure"
+                    }
+                }
+                """
+        };
+    }
+
+    public static String[] expectedBatchCreateNdjsonResults() {
+        return new String[]{
+                """
+                {"index": 0, "status": 201, "expense": {"categoryId": "3b257779-a5db-4e87-9365-72c6f8d4977d", "amount": 10.0}}
+                """,
+                """
+                {"index": 1, "status": 201, "expense": {"categoryId": "e2709aa2-7907-4f78-98b6-0f36a0c1b5ca", "amount": 7.5}}
+                """,
+                """
+                {"index": 2, "status": 400, "error": {"message": "Malformed JSON request"}}
+                """
+        };
+    }
 }
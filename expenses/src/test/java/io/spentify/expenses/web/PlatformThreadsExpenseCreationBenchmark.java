@@ -0,0 +1,11 @@
+package io.spentify.expenses.web;
+
+import io.spentify.expenses.TestExpensesApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestExpensesApplication.class,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsExpenseCreationBenchmark extends ExpenseCreationBenchmark {
+}
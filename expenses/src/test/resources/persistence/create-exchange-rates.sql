@@ -0,0 +1,5 @@
+INSERT INTO exchange_rate (currency, effective_date, rate)
+VALUES
+    ('USD', '2022-01-01', 1.10),
+    ('USD', '2023-01-01', 1.25)
+ON CONFLICT (currency, effective_date) DO NOTHING;
@@ -1,4 +1,5 @@
 INSERT INTO expense_category (id, account_id, name)
 VALUES
     ('3b257779-a5db-4e87-9365-72c6f8d4977d'::UUID, 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'::UUID, 'Fun'),
-    ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'::UUID, 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'::UUID, 'Food');
+    ('e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'::UUID, 'e2709aa2-7907-4f78-98b6-0f36a0c1b5ca'::UUID, 'Food')
+ON CONFLICT (id) DO NOTHING;